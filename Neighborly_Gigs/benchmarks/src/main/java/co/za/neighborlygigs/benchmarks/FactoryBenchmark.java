@@ -0,0 +1,75 @@
+package co.za.neighborlygigs.benchmarks;
+
+import co.za.neighborlygigs.benchmarks.baseline.BaselineImplementations;
+import co.za.neighborlygigs.domain.Notification;
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.Transaction;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.factory.NotificationFactory;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.factory.TransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity factories on the task lifecycle: task creation, the notification fan-out on completion
+ * and the fee split. Run with -prof gc for bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FactoryBenchmark {
+
+    private User poster;
+    private User worker;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        poster = User.builder().id(1L).email("poster@example.com").firstName("Thandi").lastName("Mokoena").build();
+        worker = User.builder().id(2L).email("worker@example.com").firstName("Sipho").lastName("Dlamini").build();
+        task = TaskFactory.createTask("Deep-clean a two-bedroom flat", "Kitchen, bathroom and windows", TaskCategory.CLEANING,
+                new BigDecimal("1249.99"), "Rosebank, Johannesburg", "Own supplies", poster);
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return TaskFactory.createTask("Deep-clean a two-bedroom flat", "Kitchen, bathroom and windows", TaskCategory.CLEANING,
+                new BigDecimal("1249.99"), "Rosebank, Johannesburg", "Own supplies", poster);
+    }
+
+    @Benchmark
+    public Transaction createTransaction() {
+        return TransactionFactory.createTransaction(task);
+    }
+
+    @Benchmark
+    public Notification taskAssignedNotification() {
+        return NotificationFactory.createTaskAssignedNotification(worker, task.getTitle());
+    }
+
+    @Benchmark
+    public Notification reviewReminderBaseline() {
+        return BaselineImplementations.createReviewReminderNotification(poster, worker, task.getTitle());
+    }
+
+    @Benchmark
+    public Notification reviewReminderCurrent() {
+        return NotificationFactory.createReviewReminderNotification(poster, worker, task.getTitle());
+    }
+}
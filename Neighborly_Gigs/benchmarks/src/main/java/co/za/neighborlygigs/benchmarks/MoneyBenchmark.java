@@ -0,0 +1,90 @@
+package co.za.neighborlygigs.benchmarks;
+
+import co.za.neighborlygigs.benchmarks.baseline.BaselineImplementations;
+import co.za.neighborlygigs.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The 20% fee split and a revenue total over many amounts, BigDecimal (baseline) vs long cents.
+ * Both sides start from values already in their own representation, as they would be when read
+ * from an entity. Run with -prof gc: the cents paths should allocate nothing but the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+    private static final int PLATFORM_FEE_BASIS_POINTS = 2_000;
+
+    @Param({"10000"})
+    public int rows;
+
+    private BigDecimal budget;
+    private Money budgetMoney;
+    private BigDecimal[] amounts;
+    private Money[] amountsMoney;
+
+    @Setup
+    public void setUp() {
+        budget = new BigDecimal("1249.99");
+        budgetMoney = Money.of(budget);
+        Random random = new Random(42);
+        amounts = new BigDecimal[rows];
+        amountsMoney = new Money[rows];
+        for (int i = 0; i < rows; i++) {
+            long cents = 2_000 + random.nextInt(500_000);
+            amounts[i] = BigDecimal.valueOf(cents, 2);
+            amountsMoney[i] = Money.ofCents(cents);
+        }
+    }
+
+    @Benchmark
+    public void feeSplitBaseline(Blackhole blackhole) {
+        BigDecimal[] split = BaselineImplementations.feeSplit(budget);
+        blackhole.consume(split[0]);
+        blackhole.consume(split[1]);
+    }
+
+    @Benchmark
+    public void feeSplitCents(Blackhole blackhole) {
+        Money fee = budgetMoney.share(PLATFORM_FEE_BASIS_POINTS);
+        blackhole.consume(fee);
+        blackhole.consume(budgetMoney.minus(fee));
+    }
+
+    // Platform revenue over a page of transactions: sum of the 20% fees
+    @Benchmark
+    public BigDecimal revenueBaseline() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = total.add(BaselineImplementations.feeSplit(amount)[0]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long revenueCents() {
+        long total = 0;
+        for (Money amount : amountsMoney) {
+            total = Math.addExact(total, amount.share(PLATFORM_FEE_BASIS_POINTS).getCents());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,69 @@
+package co.za.neighborlygigs.benchmarks;
+
+import co.za.neighborlygigs.benchmarks.baseline.BaselineImplementations;
+import co.za.neighborlygigs.util.GeoCodingUtil;
+import co.za.neighborlygigs.util.ValidationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Form validation and address formatting, baseline vs current. Run with -prof gc to see the
+ * per-call allocation (gc.alloc.rate.norm) drop alongside the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    @Param({"thandi.mokoena@example.co.za", "not-an-email"})
+    public String email;
+
+    @Param({"+27821234567"})
+    public String phone;
+
+    @Param({"12 Jan Smuts Ave, Rosebank, Johannesburg"})
+    public String address;
+
+    @Benchmark
+    public boolean emailBaseline() {
+        return BaselineImplementations.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean emailCurrent() {
+        return ValidationUtil.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean phoneBaseline() {
+        return BaselineImplementations.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public boolean phoneCurrent() {
+        return ValidationUtil.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public String addressBaseline() {
+        return BaselineImplementations.formatAddressForGeocoding(address);
+    }
+
+    @Benchmark
+    public String addressCurrent() {
+        return GeoCodingUtil.formatAddressForGeocoding(address);
+    }
+}
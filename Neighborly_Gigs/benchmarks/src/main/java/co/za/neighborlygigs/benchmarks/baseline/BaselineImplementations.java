@@ -0,0 +1,73 @@
+package co.za.neighborlygigs.benchmarks.baseline;
+
+import co.za.neighborlygigs.domain.Notification;
+import co.za.neighborlygigs.domain.User;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * The pre-optimization versions of the hot paths, kept verbatim so every benchmark can report
+ * "before" next to "after" in the same run.
+ */
+public final class BaselineImplementations {
+
+    // ValidationUtil.isValidEmail before: String.matches compiles the regex on every call
+    public static boolean isValidEmail(String email) {
+        if (email == null)
+            return false;
+        email = email.trim();
+        if (email.isEmpty())
+            return false;
+
+        String emailRegex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+        return email.matches(emailRegex);
+    }
+
+    // ValidationUtil.isValidPhone before
+    public static boolean isValidPhone(String phone) {
+        if (phone == null)
+            return false;
+        phone = phone.trim();
+        if (phone.isEmpty()) return false;
+
+        String phoneRegex = "^(\\+?[0-9]{1,3})?([0-9]{10})$";
+        return phone.matches(phoneRegex);
+    }
+
+    // GeoCodingUtil.formatAddressForGeocoding before: lower-cases the whole address twice
+    public static String formatAddressForGeocoding(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            throw new IllegalArgumentException("Address cannot be null or empty");
+        }
+        String cleaned = address.trim();
+        if (!cleaned.toLowerCase().contains("south africa") && !cleaned.toLowerCase().contains("za")) {
+            cleaned += ", South Africa";
+        }
+        return cleaned;
+    }
+
+    // NotificationFactory.createReviewReminderNotification before: String.format per notification
+    public static Notification createReviewReminderNotification(User recipient, User otherParty, String taskTitle) {
+        String otherName = otherParty.getFirstName();
+        return Notification.builder()
+                .recipient(recipient)
+                .title("Review your recent gig!")
+                .message(String.format(
+                        "%s helped you with “%s” — please take a moment to leave a review. " +
+                                "Your feedback helps build trust in our community! 🌟",
+                        otherName, taskTitle))
+                .build();
+    }
+
+    private static final BigDecimal PLATFORM_FEE_RATE = new BigDecimal("0.20");
+
+    // TransactionFactory.createTransaction before: the fee split in BigDecimal, as {fee, payout}
+    public static BigDecimal[] feeSplit(BigDecimal total) {
+        BigDecimal platformFee = total.multiply(PLATFORM_FEE_RATE).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal payout = total.subtract(platformFee).setScale(2, RoundingMode.HALF_UP);
+        return new BigDecimal[] {platformFee, payout};
+    }
+
+    private BaselineImplementations() {}
+}
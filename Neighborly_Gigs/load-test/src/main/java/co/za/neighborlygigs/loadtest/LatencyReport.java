@@ -0,0 +1,80 @@
+package co.za.neighborlygigs.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-endpoint request counts, errors and latency samples for one load-test run.
+ */
+public class LatencyReport {
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long nanos, boolean ok) {
+        series.computeIfAbsent(endpoint, key -> new Series()).add(nanos, ok);
+    }
+
+    public List<Row> rows(double elapsedSeconds) {
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, Series> entry : new TreeMap<>(series).entrySet()) {
+            rows.add(entry.getValue().summarize(entry.getKey(), elapsedSeconds));
+        }
+        return rows;
+    }
+
+    public String format(double elapsedSeconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-32s %9s %7s %9s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Row row : rows(elapsedSeconds)) {
+            out.append(String.format("%-32s %9d %7d %9.1f %8.1f %8.1f %8.1f %8.1f%n",
+                    row.endpoint(), row.requests(), row.errors(), row.perSecond(),
+                    row.p50Millis(), row.p90Millis(), row.p99Millis(), row.maxMillis()));
+        }
+        return out.toString();
+    }
+
+    public record Row(String endpoint, long requests, long errors, double perSecond,
+                      double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+        public double errorPercent() {
+            return requests == 0 ? 0.0 : errors * 100.0 / requests;
+        }
+    }
+
+    private static class Series {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long nanos, boolean ok) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized Row summarize(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return new Row(endpoint, size, errors, size / Math.max(elapsedSeconds, 0.001),
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(sorted.length * fraction) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package co.za.neighborlygigs.loadtest;
+
+import co.za.neighborlygigs.NeighborlyGigsBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the real application on an embedded H2 database (profile "loadtest"), seeds it, runs the
+ * configured load against its HTTP port and prints per-endpoint throughput and latency percentiles.
+ *
+ * Any property can be overridden on the command line, e.g. --loadtest.virtual-users=500.
+ * The process exits with status 1 when a release gate (loadtest.max-p99-ms, max-error-percent) fails.
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                NeighborlyGigsBackendApplication.class, LoadTestSeeder.class)
+                .profiles("loadtest")
+                .run(args);
+        int exitCode;
+        try {
+            exitCode = new LoadTestDriver(context).run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exitCode = 2;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+}
@@ -0,0 +1,186 @@
+package co.za.neighborlygigs.loadtest;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import co.za.neighborlygigs.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the virtual users against the booted app and evaluates the release gates.
+ *
+ * Each virtual user registers and logs in as a fresh poster, logs a second session in as a seeded
+ * worker, then loops: browse /tasks (first page, a deeper page, a search), view /dashboard and a
+ * task, apply to it. Every {@code lifecycle-every} iterations it runs a whole gig: post a task,
+ * apply, assign, complete and review both ways. The web tier has no assign/complete endpoints, so
+ * those two steps call TaskService in-process and are reported under "(service)" names.
+ */
+class LoadTestDriver {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDriver.class);
+    private static final String[] SEARCH_TERMS = {"garden", "dog", "tutoring", "clean", "delivery", "pool"};
+
+    private final ConfigurableApplicationContext context;
+    private final LatencyReport report = new LatencyReport();
+    private final String baseUrl;
+    private final int virtualUsers;
+    private final long rampUpMillis;
+    private final long durationMillis;
+    private final int lifecycleEvery;
+    private final double maxP99Millis;
+    private final double maxErrorPercent;
+    private final List<Long> openTaskIds;
+    private final int seededUsers;
+    private final TaskService taskService;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    LoadTestDriver(ConfigurableApplicationContext context) {
+        this.context = context;
+        Environment env = context.getEnvironment();
+        this.baseUrl = "http://127.0.0.1:" + env.getRequiredProperty("local.server.port");
+        this.virtualUsers = env.getProperty("loadtest.virtual-users", Integer.class, 100);
+        this.rampUpMillis = env.getProperty("loadtest.ramp-up-seconds", Long.class, 10L) * 1000;
+        this.durationMillis = env.getProperty("loadtest.duration-seconds", Long.class, 60L) * 1000;
+        this.lifecycleEvery = Math.max(1, env.getProperty("loadtest.lifecycle-every", Integer.class, 10));
+        this.maxP99Millis = env.getProperty("loadtest.max-p99-ms", Double.class, 0.0);
+        this.maxErrorPercent = env.getProperty("loadtest.max-error-percent", Double.class, 0.0);
+        LoadTestSeeder seeder = context.getBean(LoadTestSeeder.class);
+        this.openTaskIds = seeder.getOpenTaskIds();
+        this.seededUsers = seeder.getUserCount();
+        this.taskService = context.getBean(TaskService.class);
+        this.taskRepository = context.getBean(TaskRepository.class);
+        this.userRepository = context.getBean(UserRepository.class);
+    }
+
+    int run() throws InterruptedException {
+        logger.info("Load test: {} virtual users for {} s against {}", virtualUsers, durationMillis / 1000, baseUrl);
+        long start = System.currentTimeMillis();
+        long deadline = start + rampUpMillis + durationMillis;
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < virtualUsers; i++) {
+                int index = i;
+                // Spread arrivals over the ramp-up instead of a thundering herd at t=0
+                long startDelay = virtualUsers == 1 ? 0 : rampUpMillis * i / (virtualUsers - 1);
+                users.submit(() -> {
+                    try {
+                        Thread.sleep(startDelay);
+                        virtualUser(index, deadline);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException e) {
+                        logger.warn("Virtual user {} stopped: {}", index, e.getMessage());
+                    }
+                });
+            }
+            users.shutdown();
+            users.awaitTermination(deadline - System.currentTimeMillis() + 120_000, TimeUnit.MILLISECONDS);
+        }
+        double elapsedSeconds = (System.currentTimeMillis() - start) / 1000.0;
+
+        System.out.println();
+        System.out.println(report.format(elapsedSeconds));
+        return evaluateGates(elapsedSeconds);
+    }
+
+    private void virtualUser(int index, long deadline) {
+        String email = "vu-" + index + "-" + System.nanoTime() + "@loadtest.local";
+        WebSession poster = new WebSession(baseUrl, report);
+        poster.get("GET /register", "/register");
+        poster.post("POST /register", "/register", Map.of(
+                "firstName", "Virtual", "lastName", "User" + index, "email", email,
+                "phone", String.format("+2783%07d", registrations.incrementAndGet()),
+                "password", LoadTestSeeder.PASSWORD, "confirmPassword", LoadTestSeeder.PASSWORD), "/login?registered");
+        if (!poster.logIn(email, LoadTestSeeder.PASSWORD)) {
+            return;
+        }
+
+        int workerIndex = index % seededUsers;
+        String workerEmail = LoadTestSeeder.seededEmail(workerIndex);
+        WebSession worker = new WebSession(baseUrl, report);
+        if (!worker.logIn(workerEmail, LoadTestSeeder.PASSWORD)) {
+            return;
+        }
+        Long posterId = userRepository.findByEmail(email).map(User::getId).orElseThrow();
+        Long workerId = userRepository.findByEmail(workerEmail).map(User::getId).orElseThrow();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int iteration = 1; System.currentTimeMillis() < deadline; iteration++) {
+            Long taskId = openTaskIds.get(random.nextInt(openTaskIds.size()));
+            poster.get("GET /tasks", "/tasks");
+            poster.get("GET /tasks?before", "/tasks?before=" + taskId);
+            poster.get("GET /tasks?q", "/tasks?q=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]);
+            poster.get("GET /dashboard", "/dashboard");
+            worker.get("GET /tasks/{id}", "/tasks/" + taskId);
+            worker.post("POST /applications", "/applications", Map.of("taskId", taskId.toString()), "/tasks/" + taskId);
+            if (iteration % lifecycleEvery == 0) {
+                gigLifecycle(poster, posterId, email, worker, workerId, workerEmail, iteration);
+            }
+        }
+    }
+
+    private void gigLifecycle(WebSession poster, Long posterId, String posterEmail,
+                              WebSession worker, Long workerId, String workerEmail, int iteration) {
+        poster.get("GET /tasks/new", "/tasks/new");
+        poster.post("POST /tasks", "/tasks", Map.of(
+                "title", "Load test gig " + iteration, "description", "Help needed with a quick job",
+                "category", "ERRANDS", "budget", "150.00", "address", "Rosebank, Johannesburg",
+                "requirements", "None"), "/dashboard?taskPosted");
+        Long taskId = taskRepository.findByPoster_Id(posterId).stream()
+                .map(Task::getId).max(Long::compare).orElse(null);
+        if (taskId == null) {
+            return;
+        }
+
+        worker.get("GET /tasks/{id}", "/tasks/" + taskId);
+        worker.post("POST /applications", "/applications", Map.of("taskId", taskId.toString()), "/tasks/" + taskId);
+        if (!timed("assignTask (service)", () -> taskService.assignTask(taskId, workerId, posterId))
+                || !timed("completeTask (service)", () -> taskService.completeTask(taskId, posterId))) {
+            return;
+        }
+        poster.post("POST /reviews", "/reviews", Map.of("taskId", taskId.toString(), "revieweeEmail", workerEmail,
+                "rating", "5", "comment", "Great work"), "/tasks/" + taskId);
+        worker.post("POST /reviews", "/reviews", Map.of("taskId", taskId.toString(), "revieweeEmail", posterEmail,
+                "rating", "4", "comment", "Friendly poster"), "/tasks/" + taskId);
+    }
+
+    private boolean timed(String endpoint, Runnable call) {
+        long start = System.nanoTime();
+        try {
+            call.run();
+            report.record(endpoint, System.nanoTime() - start, true);
+            return true;
+        } catch (RuntimeException e) {
+            report.record(endpoint, System.nanoTime() - start, false);
+            return false;
+        }
+    }
+
+    private int evaluateGates(double elapsedSeconds) {
+        int exitCode = 0;
+        for (LatencyReport.Row row : report.rows(elapsedSeconds)) {
+            if (maxP99Millis > 0 && row.p99Millis() > maxP99Millis) {
+                logger.error("GATE FAILED: {} p99 {} ms > {} ms", row.endpoint(), row.p99Millis(), maxP99Millis);
+                exitCode = 1;
+            }
+            if (maxErrorPercent > 0 && row.errorPercent() > maxErrorPercent) {
+                logger.error("GATE FAILED: {} errors {}% > {}%", row.endpoint(),
+                        String.format("%.2f", row.errorPercent()), maxErrorPercent);
+                exitCode = 1;
+            }
+        }
+        return exitCode;
+    }
+}
@@ -0,0 +1,214 @@
+package co.za.neighborlygigs.loadtest;
+
+import co.za.neighborlygigs.domain.Application;
+import co.za.neighborlygigs.domain.Review;
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.ApplicationStatus;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.factory.ApplicationFactory;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.factory.TransactionFactory;
+import co.za.neighborlygigs.geo.Geocoder;
+import co.za.neighborlygigs.repository.ApplicationRepository;
+import co.za.neighborlygigs.repository.ReviewRepository;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.TransactionRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import co.za.neighborlygigs.service.ReputationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the embedded database with users, open and completed tasks, applications, transactions
+ * and reviews before the app reports ready, so the in-memory indexes and stats build from it as
+ * they would on a production restart.
+ *
+ * Every seeded user is {@code seed-<n>@loadtest.local} with password {@link #PASSWORD}.
+ */
+public class LoadTestSeeder implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestSeeder.class);
+
+    public static final String PASSWORD = "LoadTest123!";
+    private static final int CHUNK = 500;
+    private static final String[] PLACES = {
+            "Sandton, Johannesburg", "Rosebank, Johannesburg", "Soweto, Johannesburg", "Hatfield, Pretoria",
+            "Centurion", "Sea Point, Cape Town", "Claremont, Cape Town", "Stellenbosch", "Umhlanga, Durban",
+            "Bloemfontein", "Gqeberha", "Polokwane"
+    };
+    private static final String[] JOBS = {
+            "Garden clean-up", "Dog walking", "Grocery run", "Maths tutoring", "Window washing",
+            "Parcel delivery", "Move furniture", "Pool cleaning", "Lawn mowing", "Pet sitting"
+    };
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionRepository transactionRepository;
+    private final ReputationService reputationService;
+    private final PasswordEncoder passwordEncoder;
+    private final Geocoder geocoder;
+    private final TransactionTemplate transactionTemplate;
+    private final int userCount;
+    private final int taskCount;
+    private final int applicationsPerTask;
+    private final int completedPercent;
+
+    private final Random random = new Random(42);
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> openTaskIds = new ArrayList<>();
+
+    public LoadTestSeeder(UserRepository userRepository, TaskRepository taskRepository,
+                          ApplicationRepository applicationRepository, ReviewRepository reviewRepository,
+                          TransactionRepository transactionRepository, ReputationService reputationService,
+                          PasswordEncoder passwordEncoder, Geocoder geocoder, TransactionTemplate transactionTemplate,
+                          @Value("${loadtest.seed.users:2000}") int userCount,
+                          @Value("${loadtest.seed.tasks:5000}") int taskCount,
+                          @Value("${loadtest.seed.applications-per-task:2}") int applicationsPerTask,
+                          @Value("${loadtest.seed.completed-percent:30}") int completedPercent) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.applicationRepository = applicationRepository;
+        this.reviewRepository = reviewRepository;
+        this.transactionRepository = transactionRepository;
+        this.reputationService = reputationService;
+        this.passwordEncoder = passwordEncoder;
+        this.geocoder = geocoder;
+        this.transactionTemplate = transactionTemplate;
+        this.userCount = Math.max(2, userCount);
+        this.taskCount = taskCount;
+        this.applicationsPerTask = Math.min(applicationsPerTask, this.userCount - 1);
+        this.completedPercent = completedPercent;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        // One hash shared by every seeded account: seeding 2000 BCrypt hashes would take minutes
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        seedUsers(passwordHash);
+        int completed = seedTasks();
+        reputationService.reconcile();
+        logger.info("Seeded {} users, {} tasks ({} completed) in {} ms",
+                userIds.size(), taskCount, completed, System.currentTimeMillis() - start);
+    }
+
+    public static String seededEmail(int index) {
+        return "seed-" + index + "@loadtest.local";
+    }
+
+    public int getUserCount() {
+        return userIds.size();
+    }
+
+    public List<Long> getOpenTaskIds() {
+        return Collections.unmodifiableList(openTaskIds);
+    }
+
+    private void seedUsers(String passwordHash) {
+        for (int from = 0; from < userCount; from += CHUNK) {
+            int to = Math.min(userCount, from + CHUNK);
+            List<User> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(User.builder()
+                        .email(seededEmail(i))
+                        .password(passwordHash)
+                        .firstName("Seed" + i)
+                        .lastName("User")
+                        .phone(String.format("+2782%07d", i))
+                        .role(Role.USER)
+                        .build());
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.saveAll(chunk).forEach(user -> userIds.add(user.getId())));
+        }
+    }
+
+    private int seedTasks() {
+        int completed = 0;
+        for (int chunkStart = 0; chunkStart < taskCount; chunkStart += CHUNK) {
+            int from = chunkStart;
+            int to = Math.min(taskCount, from + CHUNK);
+            int done = transactionTemplate.execute(status -> {
+                int completedInChunk = 0;
+                for (int i = from; i < to; i++) {
+                    if (seedTask(i)) {
+                        completedInChunk++;
+                    }
+                }
+                return completedInChunk;
+            });
+            completed += done;
+        }
+        return completed;
+    }
+
+    // Returns true when the task was seeded as completed
+    private boolean seedTask(int index) {
+        User poster = userRepository.getReferenceById(userIds.get(random.nextInt(userIds.size())));
+        String place = PLACES[random.nextInt(PLACES.length)];
+        String job = JOBS[random.nextInt(JOBS.length)];
+        TaskCategory category = TaskCategory.values()[random.nextInt(TaskCategory.values().length)];
+        Task task = TaskFactory.createTask(job + " #" + index, job + " needed in " + place + ". Reliable and friendly please.",
+                category, BigDecimal.valueOf(50 + random.nextInt(1500)).setScale(2), place, "Own transport", poster);
+        geocoder.geocode(place).ifPresent(point -> {
+            task.setLatitude(point.getLatitude());
+            task.setLongitude(point.getLongitude());
+        });
+        taskRepository.save(task);
+
+        List<User> applicants = new ArrayList<>();
+        while (applicants.size() < applicationsPerTask) {
+            Long applicantId = userIds.get(random.nextInt(userIds.size()));
+            if (!applicantId.equals(poster.getId()) && applicants.stream().noneMatch(a -> a.getId().equals(applicantId))) {
+                applicants.add(userRepository.getReferenceById(applicantId));
+            }
+        }
+        List<Application> applications = new ArrayList<>();
+        for (User applicant : applicants) {
+            applications.add(ApplicationFactory.createApplication(task, applicant, "I can help with this"));
+        }
+        applicationRepository.saveAll(applications);
+
+        if (applicants.isEmpty() || random.nextInt(100) >= completedPercent) {
+            openTaskIds.add(task.getId());
+            return false;
+        }
+
+        User worker = applicants.get(0);
+        applications.get(0).setStatus(ApplicationStatus.ACCEPTED);
+        task.setAssignedTo(worker);
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setCompletedAt(LocalDateTime.now().minusDays(random.nextInt(90)));
+        transactionRepository.save(TransactionFactory.createTransaction(task));
+        reviewRepository.save(review(task, poster, worker));
+        reviewRepository.save(review(task, worker, poster));
+        return true;
+    }
+
+    private Review review(Task task, User reviewer, User reviewee) {
+        Review review = new Review();
+        review.setTask(task);
+        review.setReviewer(reviewer);
+        review.setReviewee(reviewee);
+        // Skewed towards good ratings, like real marketplaces
+        review.setRating(random.nextInt(4) == 0 ? 1 + random.nextInt(3) : 4 + random.nextInt(2));
+        review.setComment("Seeded review");
+        return review;
+    }
+}
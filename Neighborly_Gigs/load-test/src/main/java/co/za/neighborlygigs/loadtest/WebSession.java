@@ -0,0 +1,105 @@
+package co.za.neighborlygigs.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One browser: its own cookie jar (session) and the CSRF token from the last page it rendered.
+ * Every request is timed into the shared report under a fixed endpoint name.
+ */
+class WebSession {
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LatencyReport report;
+    private String csrfToken;
+
+    WebSession(String baseUrl, LatencyReport report) {
+        this.baseUrl = baseUrl;
+        this.report = report;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    // Page views succeed with 200 and keep the page's CSRF token for the next form post
+    HttpResponse<String> get(String endpoint, String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET().build();
+        HttpResponse<String> response = send(endpoint, request, null);
+        if (response != null) {
+            Matcher matcher = CSRF_TOKEN.matcher(response.body());
+            if (matcher.find()) {
+                csrfToken = matcher.group(1);
+            }
+        }
+        return response;
+    }
+
+    // Form posts succeed with a redirect whose target contains expectedLocation
+    HttpResponse<String> post(String endpoint, String path, Map<String, String> form, String expectedLocation) {
+        Map<String, String> fields = new LinkedHashMap<>(form);
+        if (csrfToken != null) {
+            fields.put("_csrf", csrfToken);
+        }
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            if (!body.isEmpty()) {
+                body.append('&');
+            }
+            body.append(URLEncoder.encode(field.getKey(), StandardCharsets.UTF_8)).append('=')
+                    .append(URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8));
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        return send(endpoint, request, expectedLocation);
+    }
+
+    // Form login: the session id and CSRF token both rotate, so fetch a fresh page afterwards
+    boolean logIn(String email, String password) {
+        get("GET /login", "/login");
+        HttpResponse<String> response = post("POST /login", "/login",
+                Map.of("username", email, "password", password), "/dashboard");
+        csrfToken = null;
+        return response != null && location(response).endsWith("/dashboard");
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request, String expectedLocation) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean ok = expectedLocation == null
+                    ? response.statusCode() == 200
+                    : response.statusCode() / 100 == 3 && location(response).contains(expectedLocation);
+            report.record(endpoint, System.nanoTime() - start, ok);
+            return response;
+        } catch (IOException e) {
+            report.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static String location(HttpResponse<?> response) {
+        return response.headers().firstValue("Location").orElse("");
+    }
+}
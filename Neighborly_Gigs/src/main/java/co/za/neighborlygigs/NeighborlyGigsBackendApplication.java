@@ -2,8 +2,10 @@ package co.za.neighborlygigs;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class NeighborlyGigsBackendApplication {
 
 	public static void main(String[] args) {
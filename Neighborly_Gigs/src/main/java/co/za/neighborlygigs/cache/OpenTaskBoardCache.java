@@ -0,0 +1,169 @@
+package co.za.neighborlygigs.cache;
+
+import co.za.neighborlygigs.datasource.PrimaryReads;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.event.TaskClosedEvent;
+import co.za.neighborlygigs.event.TaskOpenedEvent;
+import co.za.neighborlygigs.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Process-local copy of the newest OPEN tasks on the job board, ordered by id descending.
+ *
+ * The cache always holds a prefix of the board (the newest {@code capacity} open cards), so any
+ * page that falls inside that prefix is served without a database round trip. Task service write
+ * paths push changes in after their transaction commits instead of evicting the whole board. Closed
+ * tasks leave gaps only older tasks could fill, so once closures have taken the prefix below three
+ * quarters of {@code capacity} the next read refills it from the database.
+ */
+@Component
+public class OpenTaskBoardCache {
+    private static final Logger logger = LoggerFactory.getLogger(OpenTaskBoardCache.class);
+
+    private final TaskRepository taskRepository;
+    private final int capacity;
+
+    private final ConcurrentSkipListMap<Long, TaskCard> cards = new ConcurrentSkipListMap<>(Collections.reverseOrder());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    // A lock rather than a monitor: load() queries the database while holding it, and a virtual
+    // thread blocked inside synchronized would pin its carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean loaded = false;
+    // True when every open task fits in the cache, so a short result is the real end of the board
+    private volatile boolean complete = false;
+
+    public OpenTaskBoardCache(TaskRepository taskRepository,
+                              @Value("${neighborlygigs.board-cache.capacity:1000}") int capacity) {
+        this.taskRepository = taskRepository;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Returns up to {@code limit} open cards with id below {@code beforeId} (or from the top when null),
+     * or null when the requested window is not covered by the cached prefix.
+     */
+    public List<TaskCard> findPage(Long beforeId, int limit) {
+        if (!loaded) {
+            load();
+        }
+        ConcurrentNavigableMap<Long, TaskCard> window = (beforeId == null) ? cards : cards.tailMap(beforeId, false);
+        List<TaskCard> rows = new ArrayList<>(limit);
+        for (TaskCard card : window.values()) {
+            if (rows.size() == limit) {
+                break;
+            }
+            rows.add(card);
+        }
+        if (rows.size() == limit || complete) {
+            hits.increment();
+            return rows;
+        }
+        misses.increment();
+        return null;
+    }
+
+    // The whole cached prefix, newest first (the candidate pool for recommendations)
+    public List<TaskCard> openCards() {
+        if (!loaded) {
+            load();
+        }
+        return new ArrayList<>(cards.values());
+    }
+
+    // A task was created OPEN: it has the highest id so far and goes to the head of the board
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskOpened(TaskOpenedEvent event) {
+        TaskCard card = event.getCard();
+        lock.lock();
+        try {
+            cards.put(card.getId(), card);
+            while (cards.size() > capacity) {
+                cards.pollLastEntry();
+                complete = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A task left OPEN; removing it keeps the cached prefix valid, if shorter
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskClosed(TaskClosedEvent event) {
+        lock.lock();
+        try {
+            if (cards.remove(event.getTaskId()) != null && !complete && cards.size() < capacity * 3 / 4) {
+                loaded = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Drops the cached board; the next read reloads it from the database
+    public void invalidate() {
+        loaded = false;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void load() {
+        lock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            // Incremental changes take the same lock, so none can interleave with the reload
+            List<TaskCard> rows = PrimaryReads.call(() -> taskRepository.findCardsByStatus(TaskStatus.OPEN, Limit.of(capacity)));
+            // Added before anything is dropped, so a concurrent reader sees the old prefix or a longer one
+            Set<Long> ids = new HashSet<>();
+            for (TaskCard card : rows) {
+                cards.put(card.getId(), card);
+                ids.add(card.getId());
+            }
+            cards.keySet().retainAll(ids);
+            complete = rows.size() < capacity;
+            loaded = true;
+            logger.info("Loaded {} open tasks into the board cache (capacity {})", rows.size(), capacity);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package co.za.neighborlygigs.cache;
+
+import co.za.neighborlygigs.datasource.PrimaryReads;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolves users by id (as carried by CustomUserDetails) without re-querying on every call.
+ *
+ * Lookups go through a per-request memo first, then a bounded LRU cache with a TTL shared across
+ * requests, and only then the database. Cached values are detached snapshots holding the user's
+ * scalar fields: treat them as read-only (rendering, comparisons, foreign-key references) and load
+ * a managed entity through the repository when the user itself is being modified.
+ */
+@Component
+public class UserLookup {
+    private static final String REQUEST_CACHE_ATTRIBUTE = UserLookup.class.getName() + ".REQUEST_CACHE";
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<Long, Entry> cache;
+    private final Map<String, Long> idsByEmail = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public UserLookup(UserRepository userRepository,
+                      @Value("${neighborlygigs.user-cache.max-size:10000}") int maxSize,
+                      @Value("${neighborlygigs.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+        // Access-ordered, so the eldest entry is the least recently used one
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > UserLookup.this.maxSize) {
+                    idsByEmail.remove(eldest.getValue().user.getEmail());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Optional<User> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Map<Long, User> requestCache = requestCache();
+        if (requestCache != null) {
+            User memo = requestCache.get(id);
+            if (memo != null) {
+                hits.increment();
+                return Optional.of(memo);
+            }
+        }
+
+        User user = getCached(id);
+        if (user == null) {
+            misses.increment();
+            user = PrimaryReads.call(() -> userRepository.findById(id)).map(UserLookup::snapshot).orElse(null);
+            if (user == null) {
+                return Optional.empty();
+            }
+            put(user);
+        } else {
+            hits.increment();
+        }
+        if (requestCache != null) {
+            requestCache.put(id, user);
+        }
+        return Optional.of(user);
+    }
+
+    public User getById(Long id) {
+        return findById(id).orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    // For lookups that only have an email (e.g. a reviewee picked on a form)
+    public Optional<User> findByEmail(String email) {
+        Long id;
+        synchronized (this) {
+            id = idsByEmail.get(email);
+        }
+        if (id != null) {
+            return findById(id);
+        }
+        misses.increment();
+        Optional<User> user = PrimaryReads.call(() -> userRepository.findByEmail(email)).map(UserLookup::snapshot);
+        user.ifPresent(this::put);
+        return user;
+    }
+
+    // Drops a user after their row changes; deferred to transaction completion when one is active
+    public void invalidate(Long id) {
+        Map<Long, User> requestCache = requestCache();
+        if (requestCache != null) {
+            requestCache.remove(id);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id);
+                }
+            });
+        } else {
+            evict(id);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private synchronized User getCached(Long id) {
+        Entry entry = cache.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            cache.remove(id);
+            idsByEmail.remove(entry.user.getEmail());
+            return null;
+        }
+        return entry.user;
+    }
+
+    private synchronized void put(User user) {
+        cache.put(user.getId(), new Entry(user, System.currentTimeMillis() + ttlMillis));
+        idsByEmail.put(user.getEmail(), user.getId());
+    }
+
+    private synchronized void evict(Long id) {
+        Entry entry = cache.remove(id);
+        if (entry != null) {
+            idsByEmail.remove(entry.user.getEmail());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, User> requestCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<Long, User> requestCache = (Map<Long, User>) attributes.getAttribute(REQUEST_CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (requestCache == null) {
+            requestCache = new HashMap<>();
+            attributes.setAttribute(REQUEST_CACHE_ATTRIBUTE, requestCache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return requestCache;
+    }
+
+    // A detached copy, so the cached value is never tied to (or mutated through) a persistence context
+    private static User snapshot(User user) {
+        return User.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .phone(user.getPhone())
+                .bio(user.getBio())
+                .profilePictureUrl(user.getProfilePictureUrl())
+                .cvUrl(user.getCvUrl())
+                .role(user.getRole())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+
+    private static class Entry {
+        private final User user;
+        private final long expiresAt;
+
+        private Entry(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package co.za.neighborlygigs.controller;
+
+import co.za.neighborlygigs.metrics.MetricsReport;
+import co.za.neighborlygigs.service.TransactionService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+// Operational endpoints; SecurityConfig restricts /admin/** to ADMIN users
+@Controller
+public class AdminController {
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+    private static final int EXPORT_BUFFER_BYTES = 64 * 1024;
+
+    private final MetricsReport metricsReport;
+    private final TransactionService transactionService;
+
+    public AdminController(MetricsReport metricsReport, TransactionService transactionService) {
+        this.metricsReport = metricsReport;
+        this.transactionService = transactionService;
+    }
+
+    // HOT-PATH METRICS (JSON)
+    @GetMapping(value = "/admin/metrics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Map<String, Object> metrics() {
+        return metricsReport.snapshot();
+    }
+
+    // FINANCE EXPORT (CSV): ?month=2026-09, or ?from=2026-09-01&to=2026-10-01 (to is exclusive); &gzip=true for .csv.gz.
+    // Rows are streamed from a DB cursor straight into the response, so memory does not grow with the range
+    @GetMapping("/admin/exports/transactions.csv")
+    public void exportTransactions(@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                   @RequestParam(defaultValue = "false") boolean gzip,
+                                   HttpServletResponse response) throws IOException {
+        if (month != null) {
+            from = month.atDay(1);
+            to = month.plusMonths(1).atDay(1);
+        }
+        LocalDateTime start = from != null ? from.atStartOfDay() : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime end = to != null ? to.atStartOfDay() : LocalDateTime.of(9999, 1, 1, 0, 0);
+        if (!end.isAfter(start)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "'to' must be after 'from'");
+            return;
+        }
+
+        String filename = (month != null ? "transactions-" + month : "transactions") + (gzip ? ".csv.gz" : ".csv");
+        response.setContentType(gzip ? "application/gzip" : "text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+
+        long startNanos = System.nanoTime();
+        OutputStream body = response.getOutputStream();
+        if (gzip) {
+            body = new GZIPOutputStream(body, EXPORT_BUFFER_BYTES);
+        }
+        // Closing the writer finishes the gzip trailer; the container commits the response as the buffer fills
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), EXPORT_BUFFER_BYTES)) {
+            long rows = transactionService.exportCsv(start, end, out);
+            logger.info("Exported {} transactions ({} to {}) in {} ms", rows, start.toLocalDate(), end.toLocalDate(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package co.za.neighborlygigs.controller;
+
+import co.za.neighborlygigs.image.ProfileImagePipeline;
+import co.za.neighborlygigs.storage.BlobStore;
+import co.za.neighborlygigs.storage.StoredBlob;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Serves stored profile pictures and CVs.
+ *
+ * Content is addressed by hash, so a URL's bytes never change: responses carry a one-year immutable
+ * Cache-Control and the hash as ETag. Single byte ranges are honoured (206). The body goes out via
+ * Tomcat's sendfile when the connector supports it, otherwise through FileChannel.transferTo, so
+ * file bytes never pass through a heap buffer in this code. Pictures requested with {@code ?w=}
+ * get the smallest rendition at least that wide instead of the original. While that rendition is
+ * still being made the original stands in for it, under {@code no-cache} so the browser asks again.
+ */
+@Controller
+public class FileController {
+    // Below this, a plain copy is cheaper than handing the file to the connector
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // Private: CVs and pictures are only served to signed-in users
+    private static final String CACHE_CONTROL = "private, max-age=31536000, immutable";
+    // The original in place of a rendition not made yet: revalidated, so the rendition replaces it
+    private static final String CACHE_CONTROL_STAND_IN = "private, no-cache";
+
+    private final BlobStore blobStore;
+    private final ProfileImagePipeline imagePipeline;
+
+    public FileController(BlobStore blobStore, ProfileImagePipeline imagePipeline) {
+        this.blobStore = blobStore;
+        this.imagePipeline = imagePipeline;
+    }
+
+    @GetMapping("/files/{key}")
+    public void serve(@PathVariable String key, @RequestParam(name = "w", required = false) Integer width,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StoredBlob blob = blobStore.find(key).orElse(null);
+        if (blob == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        boolean standIn = false;
+        if (width != null && width > 0) {
+            StoredBlob original = blob;
+            blob = imagePipeline.fitting(original, width);
+            standIn = blob == original && imagePipeline.hasRenditionFor(original, width);
+        }
+        String etag = "\"" + blob.getKey() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, standIn ? CACHE_CONTROL_STAND_IN : CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = blob.getSize();
+        long start = 0;
+        long end = length - 1;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange range = (ifRange == null || ifRange.equals(etag))
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), length) : null;
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        if (range != null) {
+            start = range.start();
+            end = range.end();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentType(blob.getContentType());
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // The connector streams the file from the kernel's page cache after this request returns
+            request.setAttribute(SENDFILE_FILENAME, blob.getPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel file = FileChannel.open(blob.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // One "bytes=" range; multiple ranges are answered with the whole file, which the spec allows
+    private record ByteRange(long start, long end) {
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        static ByteRange parse(String header, long length) {
+            if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+                return null;
+            }
+            String spec = header.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                String first = spec.substring(0, dash).trim();
+                String last = spec.substring(dash + 1).trim();
+                if (first.isEmpty()) {
+                    // "bytes=-500": the final 500 bytes
+                    long suffix = Long.parseLong(last);
+                    if (suffix <= 0 || length == 0) {
+                        return UNSATISFIABLE;
+                    }
+                    return new ByteRange(Math.max(0, length - suffix), length - 1);
+                }
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                if (end < start) {
+                    // Malformed, so ignored rather than refused
+                    return null;
+                }
+                if (start >= length) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(start, Math.min(end, length - 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
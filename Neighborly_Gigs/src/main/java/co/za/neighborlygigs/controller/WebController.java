@@ -3,39 +3,65 @@ package co.za.neighborlygigs.controller;
 import co.za.neighborlygigs.domain.User;
 import co.za.neighborlygigs.domain.Task;
 import co.za.neighborlygigs.dto.*;
+import co.za.neighborlygigs.geo.GeoPoint;
+import co.za.neighborlygigs.notification.NotificationStreamHub;
+import co.za.neighborlygigs.recommend.TaskRecommendations;
 import co.za.neighborlygigs.security.CustomUserDetails;
 import co.za.neighborlygigs.service.*;
+import co.za.neighborlygigs.stats.PlatformStats;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Controller
 public class WebController {
+    private static final int FEED_PAGE_SIZE = 20;
+    private static final double DEFAULT_RADIUS_KM = 10.0;
+    private static final int APPLICANT_PAGE_SIZE = 20;
+    private static final int RECOMMENDED_COUNT = 6;
 
     private final AuthService authService;
     private final UserService userService;
     private final TaskService taskService;
     private final ApplicationService applicationService;
     private final ReviewService reviewService;
+    private final PlatformStats platformStats;
+    private final NotificationService notificationService;
+    private final NotificationStreamHub notificationStreamHub;
+    private final ReputationService reputationService;
+    private final ApplicantRankingService applicantRankingService;
+    private final TaskRecommendations taskRecommendations;
 
     public WebController(AuthService authService,
                          UserService userService,
                          TaskService taskService,
                          ApplicationService applicationService,
-                         ReviewService reviewService) {
+                         ReviewService reviewService,
+                         PlatformStats platformStats,
+                         NotificationService notificationService,
+                         NotificationStreamHub notificationStreamHub,
+                         ReputationService reputationService,
+                         ApplicantRankingService applicantRankingService,
+                         TaskRecommendations taskRecommendations) {
         this.authService = authService;
         this.userService = userService;
         this.taskService = taskService;
         this.applicationService = applicationService;
         this.reviewService = reviewService;
+        this.platformStats = platformStats;
+        this.notificationService = notificationService;
+        this.notificationStreamHub = notificationStreamHub;
+        this.reputationService = reputationService;
+        this.applicantRankingService = applicantRankingService;
+        this.taskRecommendations = taskRecommendations;
     }
 
     // LANDING PAGE
@@ -98,16 +124,18 @@ public class WebController {
 
     // ✅ DASHBOARD: Homepage for logged-in users
     @GetMapping("/dashboard")
-    public String dashboard(@AuthenticationPrincipal CustomUserDetails currentUser, Model model) {
-        List<Task> openTasks = taskService.getAllOpenTasks();
-        model.addAttribute("tasks", openTasks);
+    public String dashboard(@AuthenticationPrincipal CustomUserDetails currentUser,
+                            @RequestParam(value = "before", required = false) Long before,
+                            Model model) {
+        TaskFeedPage page = taskService.getOpenTasksPage(before, FEED_PAGE_SIZE);
+        model.addAttribute("tasks", page.getTasks());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        // Personalised picks sit above the first page only
+        if (before == null && currentUser != null) {
+            model.addAttribute("recommended", taskRecommendations.recommend(currentUser.getId(), RECOMMENDED_COUNT));
+        }
 
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("jobsPosted", 1200);
-        stats.put("activeWorkers", 850);
-        stats.put("avgRating", 4.8);
-        stats.put("successRate", 98);
-        model.addAttribute("stats", stats);
+        model.addAttribute("stats", platformStats.snapshot());
         model.addAttribute("searchQuery", "");
 
         return "dashboard";
@@ -115,9 +143,36 @@ public class WebController {
 
     // JOB LIST PAGE (BROWSE JOBS)
     @GetMapping("/tasks")
-    public String jobList(Model model) {
-        List<Task> openTasks = taskService.getAllOpenTasks();
-        model.addAttribute("jobs", openTasks);
+    public String jobList(@RequestParam(value = "before", required = false) Long before,
+                          @RequestParam(value = "q", required = false) String query,
+                          @RequestParam(value = "near", required = false) String near,
+                          @RequestParam(value = "lat", required = false) Double lat,
+                          @RequestParam(value = "lon", required = false) Double lon,
+                          @RequestParam(value = "radiusKm", required = false) Double radiusKm,
+                          Model model) {
+        if (query != null && !query.isBlank()) {
+            model.addAttribute("jobs", taskService.searchOpenTasks(query, FEED_PAGE_SIZE));
+            model.addAttribute("searchQuery", query);
+            return "jobs";
+        }
+
+        // Radius search: explicit coordinates win, otherwise geocode the "near" place
+        GeoPoint origin = (lat != null && lon != null) ? new GeoPoint(lat, lon)
+                : (near != null && !near.isBlank()) ? taskService.locate(near) : null;
+        if (origin != null) {
+            double radius = radiusKm != null ? radiusKm : DEFAULT_RADIUS_KM;
+            model.addAttribute("jobs", taskService.findOpenTasksNear(origin, radius, FEED_PAGE_SIZE));
+            // Detail links carry the origin, so the task page can show the same distance
+            model.addAttribute("origin", origin);
+            model.addAttribute("searchQuery", "");
+            return "jobs";
+        }
+        if (near != null && !near.isBlank()) {
+            model.addAttribute("error", "We couldn't find \"" + near + "\". Try a nearby town or suburb.");
+        }
+        TaskFeedPage page = taskService.getOpenTasksPage(before, FEED_PAGE_SIZE);
+        model.addAttribute("jobs", page.getTasks());
+        model.addAttribute("nextCursor", page.getNextCursor());
         model.addAttribute("searchQuery", "");
         return "jobs";
     }
@@ -149,7 +204,7 @@ public class WebController {
                     form.getBudget(),
                     form.getAddress(),
                     form.getRequirements(),
-                    currentUser.getEmail()
+                    currentUser.getId()
             );
             return "redirect:/dashboard?taskPosted";
         } catch (Exception e) {
@@ -163,13 +218,24 @@ public class WebController {
     @GetMapping("/tasks/{id}")
     public String taskDetail(
             @PathVariable Long id,
+            @RequestParam(value = "lat", required = false) Double lat,
+            @RequestParam(value = "lon", required = false) Double lon,
+            @RequestParam(value = "applicantsPage", defaultValue = "0") int applicantsPage,
             @AuthenticationPrincipal CustomUserDetails currentUser,
             Model model
     ) {
         Task task = taskService.getTaskById(id);
-        boolean isOwner = currentUser != null && task.getPoster().getEmail().equals(currentUser.getEmail());
+        if (lat != null && lon != null && task.getLatitude() != null && task.getLongitude() != null) {
+            double km = new GeoPoint(lat, lon).distanceKmTo(task.getLatitude(), task.getLongitude());
+            model.addAttribute("distance", String.format("%.1f km away", km));
+        }
+        boolean isOwner = currentUser != null && task.getPoster().getId().equals(currentUser.getId());
         model.addAttribute("task", task);
+        model.addAttribute("posterReputation", reputationService.getReputation(task.getPoster().getId()));
         model.addAttribute("isOwner", isOwner);
+        if (isOwner) {
+            model.addAttribute("applicants", applicantRankingService.rankApplicants(task, applicantsPage, APPLICANT_PAGE_SIZE));
+        }
         model.addAttribute("user", currentUser != null);
         return "task-detail";
     }
@@ -182,7 +248,7 @@ public class WebController {
             RedirectAttributes redirectAttributes
     ) {
         try {
-            applicationService.applyToTask(taskId, currentUser.getEmail(), null);
+            applicationService.applyToTask(taskId, currentUser.getId(), null);
             redirectAttributes.addFlashAttribute("message", "Application sent successfully!");
         } catch (RuntimeException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -193,14 +259,15 @@ public class WebController {
     // PROFILE PAGES
     @GetMapping("/profile")
     public String profile(@AuthenticationPrincipal CustomUserDetails currentUser, Model model) {
-        User user = userService.read(currentUser.getEmail());
+        User user = userService.read(currentUser.getId());
         model.addAttribute("user", user);
+        model.addAttribute("reputation", reputationService.getReputation(currentUser.getId()));
         return "profile";
     }
 
     @GetMapping("/profile/edit")
     public String editProfile(@AuthenticationPrincipal CustomUserDetails currentUser, Model model) {
-        User user = userService.read(currentUser.getEmail());
+        User user = userService.read(currentUser.getId());
         model.addAttribute("user", user);
         model.addAttribute("updateProfileForm", new UpdateProfileForm());
         return "profile-edit";
@@ -214,17 +281,17 @@ public class WebController {
             Model model
     ) {
         if (result.hasErrors()) {
-            User user = userService.read(currentUser.getEmail());
+            User user = userService.read(currentUser.getId());
             model.addAttribute("user", user);
             model.addAttribute("updateProfileForm", form);
             return "profile";
         }
 
         try {
-            userService.updateProfile(currentUser.getEmail(), form.getBio(), form.getPhone());
+            userService.updateProfile(currentUser.getId(), form.getBio(), form.getPhone());
             return "redirect:/profile?updated";
         } catch (Exception e) {
-            User user = userService.read(currentUser.getEmail());
+            User user = userService.read(currentUser.getId());
             model.addAttribute("user", user);
             model.addAttribute("updateProfileForm", form);
             model.addAttribute("error", "Failed to update profile.");
@@ -239,7 +306,7 @@ public class WebController {
             RedirectAttributes redirectAttributes
     ) {
         try {
-            userService.uploadProfilePicture(currentUser.getEmail(), file);
+            userService.uploadProfilePicture(currentUser.getId(), file);
             redirectAttributes.addFlashAttribute("message", "Profile picture updated!");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -254,12 +321,12 @@ public class WebController {
             RedirectAttributes redirectAttributes
     ) {
         try {
-            userService.uploadCv(currentUser.getEmail(), file);
+            userService.uploadCv(currentUser.getId(), file);
             redirectAttributes.addFlashAttribute("message", "CV uploaded successfully!");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
         }
-        return "redirect://profile";
+        return "redirect:/profile";
     }
 
     // SUBMIT REVIEW
@@ -273,7 +340,7 @@ public class WebController {
             RedirectAttributes redirectAttributes
     ) {
         try {
-            reviewService.submitReview(taskId, currentUser.getEmail(), revieweeEmail, rating, comment);
+            reviewService.submitReview(taskId, currentUser.getId(), revieweeEmail, rating, comment);
             redirectAttributes.addFlashAttribute("message", "Thank you for your review!");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -281,6 +348,20 @@ public class WebController {
         return "redirect:/tasks/" + taskId;
     }
 
+    // LIVE UNREAD NOTIFICATION BADGE (Server-Sent Events)
+    @GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter notificationStream(@AuthenticationPrincipal CustomUserDetails currentUser) {
+        long unread = notificationService.getUnreadCount(currentUser.getId());
+        return notificationStreamHub.connect(currentUser.getId(), unread);
+    }
+
+    @PostMapping("/notifications/read")
+    public String markNotificationsRead(@AuthenticationPrincipal CustomUserDetails currentUser) {
+        notificationService.markAllAsRead(currentUser.getId());
+        return "redirect:/dashboard";
+    }
+
     // LOGOUT
     @PostMapping("/logout")
     public String logout() {
@@ -0,0 +1,80 @@
+package co.za.neighborlygigs.datasource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Moves the id sequences of Notification, Application and Review past the ids already in their
+ * tables.
+ *
+ * Those entities used to take AUTO_INCREMENT ids and now draw pooled blocks of 50 from a sequence.
+ * MySQL has no sequences, so Hibernate emulates each one with a one-row {@code *_seq} table, which
+ * {@code ddl-auto=update} creates starting at 1: on a database with existing rows the first blocks
+ * would hand out ids that are already taken. This runs once per startup, after the schema update and
+ * before any insert, and only ever raises a counter. Databases with native sequences (H2 in tests)
+ * start empty and are left alone.
+ */
+@Component
+public class IdSequenceSeeder {
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceSeeder.class);
+
+    // Sequence table -> entity table; allocationSize on each @SequenceGenerator
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "notification_seq", "notification",
+            "application_seq", "application",
+            "review_seq", "review");
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+
+    // The EntityManagerFactory is only a dependency: it has created or updated the schema once it exists
+    public IdSequenceSeeder(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    public void seed() throws MetaDataAccessException {
+        for (Map.Entry<String, String> sequence : SEQUENCES.entrySet()) {
+            if (isTable(sequence.getKey())) {
+                seed(sequence.getKey(), sequence.getValue());
+            }
+        }
+    }
+
+    private void seed(String sequenceTable, String entityTable) {
+        long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + entityTable, Long.class);
+        if (maxId == 0) {
+            return;
+        }
+        // The pooled optimizer reads N and hands out N - 49 .. N, so this makes the next id MAX(id) + 1
+        long floor = maxId + ALLOCATION_SIZE;
+        int raised = jdbc.update("UPDATE " + sequenceTable + " SET next_val = ? WHERE next_val < ?", floor, floor);
+        if (raised > 0) {
+            logger.info("Raised {} to {} past existing {} ids", sequenceTable, floor, entityTable);
+        }
+    }
+
+    private boolean isTable(String name) throws MetaDataAccessException {
+        return JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> {
+            // Current catalog only: MySQL otherwise searches every schema on the server
+            String catalog = metaData.getConnection().getCatalog();
+            String stored = metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+            try (ResultSet tables = metaData.getTables(catalog, null, stored, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package co.za.neighborlygigs.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks reads on the current thread that must see the primary even inside a read-only transaction.
+ *
+ * Components that load a snapshot once and then keep it current from events (the board cache, user
+ * lookups, unread counts) load through here: a replica a moment behind would miss rows whose events
+ * were already applied, and the snapshot would stay wrong until evicted. The routing decision is made
+ * when a transaction opens its connection, so the scope has to be entered before that transaction's
+ * first statement; loads outside any transaction, or as the first touch of one, always are. Every
+ * transaction opens its own connection, also under open-in-view (see {@link ReplicaRoutingConfig}).
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> load) {
+        if (!enter()) {
+            return load.get();
+        }
+        try {
+            return load.get();
+        } finally {
+            exit();
+        }
+    }
+
+    public static void run(Runnable load) {
+        call(() -> {
+            load.run();
+            return null;
+        });
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+    // For a scope that cannot be a lambda, such as a filter chain: true when this call opened it,
+    // and then exit() must follow
+    static boolean enter() {
+        if (ACTIVE.get() != null) {
+            return false;
+        }
+        ACTIVE.set(Boolean.TRUE);
+        return true;
+    }
+
+    static void exit() {
+        ACTIVE.remove();
+    }
+}
@@ -0,0 +1,95 @@
+package co.za.neighborlygigs.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ *
+ * A connection goes to the replica only when the current transaction is read-only, the
+ * {@link ReplicaLagMonitor} last found the replica within its lag limit, and no {@link PrimaryReads}
+ * scope is open. A replica that refuses a connection is reported to the monitor and the primary
+ * serves the read instead, so a replica outage costs one failed attempt, not failed requests.
+ *
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction manager opens its
+ * connection before the transaction is marked read-only, and the proxy defers that to the first
+ * statement, when the flag is set.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !PrimaryReads.isActive()
+                && lagMonitor.isReplicaUsable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                lagMonitor.replicaFailed(e);
+            }
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryReads.increment();
+        } else {
+            writes.increment();
+        }
+        return primary.getConnection();
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    public Map<String, Object> snapshotStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("usable", lagMonitor.isReplicaUsable());
+        stats.put("lagMs", lagMonitor.getLagMillis());
+        stats.put("maxLagMs", lagMonitor.getMaxLagMillis());
+        stats.put("lastCheckMillis", lagMonitor.getLastCheckMillis());
+        stats.put("unusable", lagMonitor.getUnusableCount());
+        // Connections opened by read-only transactions on each side, and by all other work
+        stats.put("replicaReads", replicaReads.sum());
+        stats.put("primaryReads", primaryReads.sum());
+        stats.put("writes", writes.sum());
+        return stats;
+    }
+}
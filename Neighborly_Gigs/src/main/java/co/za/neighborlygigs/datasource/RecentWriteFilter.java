@@ -0,0 +1,67 @@
+package co.za.neighborlygigs.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-your-writes on top of the replica: for a short window after a session sends a write (any
+ * request but GET, HEAD or OPTIONS), all of that session's requests read from the primary.
+ *
+ * Form posts redirect to a page that reads back what they changed (applying or reviewing lands on
+ * the task page); served from a replica a few seconds behind, that page could be missing the change.
+ * The window is the longest the replica can trail while it is still in use: {@code max-lag-ms} plus
+ * one {@code lag-check-ms}, since lag is only measured that often. Requests without a session (and
+ * so without writes of their own) are left alone.
+ */
+public class RecentWriteFilter extends OncePerRequestFilter {
+    static final String LAST_WRITE_ATTRIBUTE = RecentWriteFilter.class.getName() + ".lastWrite";
+
+    private final long windowMillis;
+    private final LongAdder primaryRequests = new LongAdder();
+
+    public RecentWriteFilter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (isWrite(request.getMethod())) {
+            // Marked before the write runs, so a read racing it from another tab is covered too
+            session.setAttribute(LAST_WRITE_ATTRIBUTE, now);
+        }
+        if (!(session.getAttribute(LAST_WRITE_ATTRIBUTE) instanceof Long lastWrite)
+                || now - lastWrite > windowMillis || !PrimaryReads.enter()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        primaryRequests.increment();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PrimaryReads.exit();
+        }
+    }
+
+    // Requests served entirely from the primary because their session wrote recently
+    public long getPrimaryRequestCount() {
+        return primaryRequests.sum();
+    }
+
+    private static boolean isWrite(String method) {
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+}
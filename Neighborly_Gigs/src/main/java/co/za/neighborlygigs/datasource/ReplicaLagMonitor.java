@@ -0,0 +1,118 @@
+package co.za.neighborlygigs.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how far the replica trails the primary, so read-only transactions only go to it while it
+ * is close enough.
+ *
+ * Every check writes the current time into a one-row heartbeat table on the primary and reads the
+ * row back from the replica: the replica is {@code now - beat it holds} behind. That overstates the
+ * lag by up to one check interval when replication has not yet carried the newest beat, never
+ * understates it, and needs nothing from the database beyond ordinary replication of the table. The
+ * replica is used only while the last check succeeded within {@code max-lag-ms}; until the first
+ * check, and whenever the replica or the heartbeat cannot be read, reads stay on the primary.
+ */
+public class ReplicaLagMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    private volatile boolean heartbeatReady;
+    private volatile boolean replicaUsable;
+    // -1 until a check has read a heartbeat from the replica
+    private volatile long lagMillis = -1;
+    private volatile long lastCheckMillis;
+    // Checks and replica connection failures that found the replica unusable
+    private final LongAdder unusableCount = new LongAdder();
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMillis) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${neighborlygigs.datasource.replica.lag-check-ms:1000}")
+    public void check() {
+        long now = System.currentTimeMillis();
+        lastCheckMillis = now;
+        try {
+            beat(now);
+        } catch (DataAccessException e) {
+            // Without a fresh beat the lag cannot be measured
+            unusable("primary heartbeat failed: " + e.getMessage());
+            return;
+        }
+        try {
+            List<Long> seen = replica.queryForList("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Long.class);
+            if (seen.isEmpty()) {
+                unusable("no heartbeat on the replica yet");
+                return;
+            }
+            lagMillis = Math.max(0, now - seen.get(0));
+            if (lagMillis > maxLagMillis) {
+                unusable("lag " + lagMillis + " ms is over " + maxLagMillis + " ms");
+            } else if (!replicaUsable) {
+                replicaUsable = true;
+                logger.info("Read-only transactions use the replica (lag {} ms)", lagMillis);
+            }
+        } catch (DataAccessException e) {
+            unusable("replica heartbeat read failed: " + e.getMessage());
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    // A replica connection failed between checks; stay on the primary until a check succeeds
+    void replicaFailed(Exception cause) {
+        unusable("replica connection failed: " + cause.getMessage());
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    public long getLastCheckMillis() {
+        return lastCheckMillis;
+    }
+
+    public long getUnusableCount() {
+        return unusableCount.sum();
+    }
+
+    private void beat(long now) {
+        if (!heartbeatReady) {
+            primary.execute("CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT NOT NULL PRIMARY KEY, beat_at BIGINT NOT NULL)");
+            heartbeatReady = true;
+        }
+        if (primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+            primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", now);
+        }
+    }
+
+    private void unusable(String reason) {
+        unusableCount.increment();
+        if (replicaUsable) {
+            replicaUsable = false;
+            logger.warn("Read-only transactions fall back to the primary: {}", reason);
+        } else {
+            logger.debug("Replica not usable: {}", reason);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package co.za.neighborlygigs.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Primary and replica connection pools behind one routing DataSource, used when
+ * {@code neighborlygigs.datasource.replica.url} is set. Without it Spring Boot's single pool is used
+ * as before.
+ *
+ * The primary pool is configured exactly like the single pool ({@code spring.datasource.*}); the
+ * replica takes the same driver and credentials unless its own are given. Replica connections are
+ * opened read-only, so a write that reaches one by mistake fails instead of diverging from the primary.
+ *
+ * Routing is decided per connection, so Hibernate gives its connection back after every transaction.
+ * Its Spring default holds the first one until the EntityManager closes, which under open-in-view is
+ * the end of the request: a read-only transaction early in a request would leave every later
+ * transaction of that request, writes and {@link PrimaryReads} loads included, on the replica.
+ */
+@Configuration
+@ConditionalOnProperty(name = "neighborlygigs.datasource.replica.url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${neighborlygigs.datasource.replica.url}") String url,
+            @Value("${neighborlygigs.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${neighborlygigs.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${neighborlygigs.datasource.replica.maximum-pool-size:20}") int maximumPoolSize,
+            @Value("${neighborlygigs.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setPoolName("replica");
+        replica.setMaximumPoolSize(maximumPoolSize);
+        // Short, so a replica outage is noticed (and read traffic moved) quickly
+        replica.setConnectionTimeout(connectionTimeoutMs);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${neighborlygigs.datasource.replica.max-lag-ms:5000}") long maxLagMs) {
+        return new ReplicaLagMonitor(primary, replica, maxLagMs);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor lagMonitor) {
+        return new ReadWriteRoutingDataSource(primary, replica, lagMonitor);
+    }
+
+    @Bean
+    public RecentWriteFilter recentWriteFilter(
+            @Value("${neighborlygigs.datasource.replica.max-lag-ms:5000}") long maxLagMs,
+            @Value("${neighborlygigs.datasource.replica.lag-check-ms:1000}") long lagCheckMs) {
+        return new RecentWriteFilter(maxLagMs + lagCheckMs);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    // What JPA and everything else injecting a DataSource gets
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
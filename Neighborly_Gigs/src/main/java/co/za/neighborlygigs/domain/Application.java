@@ -7,12 +7,16 @@ import java.time.LocalDateTime;
 import co.za.neighborlygigs.domain.*;
 
 @Entity
-@Table(name = "application", uniqueConstraints = @UniqueConstraint(columnNames = {"task_id", "applicant_id"}))
+@Table(name = "application", uniqueConstraints = @UniqueConstraint(name = Application.UNIQUE_APPLICANT,
+        columnNames = {"task_id", "applicant_id"}))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Application {
+    // One application per applicant per task; inserts rely on it instead of checking first
+    public static final String UNIQUE_APPLICANT = "uk_application_task_applicant";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_seq")
+    @SequenceGenerator(name = "application_seq", sequenceName = "application_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -26,10 +30,12 @@ public class Application {
     @Column(columnDefinition = "TEXT")
     private String message;
 
+    @Builder.Default
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ApplicationStatus status = ApplicationStatus.PENDING;
 
+    @Builder.Default
     @Column(nullable = false, updatable = false)
     private LocalDateTime appliedAt = LocalDateTime.now();
 }
@@ -9,8 +9,10 @@ import java.time.LocalDateTime;
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Notification {
 
+    // Pooled sequence ids (allocationSize 50) keep Hibernate JDBC batching on; IDENTITY disables it
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,9 +25,11 @@ public class Notification {
     @Column(columnDefinition = "TEXT")
     private String message;
 
+    @Builder.Default
     @Column(name = "'read'", nullable = false)
     private Boolean read = false;
 
+    @Builder.Default
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -2,19 +2,21 @@ package co.za.neighborlygigs.domain;
 
 import co.za.neighborlygigs.domain.enums.TaskCategory;
 import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.money.Money;
+import co.za.neighborlygigs.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import java.math.BigDecimal;
+import org.hibernate.annotations.OptimisticLock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = @Index(name = "idx_task_status_id", columnList = "status, id"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Task {
     @Id
@@ -31,19 +33,25 @@ public class Task {
     @Column(nullable = false)
     private TaskCategory category;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal budget;
+    private Money budget;
 
     @Column(nullable = false)
     private String address;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
+    @Builder.Default
     private TaskStatus status = TaskStatus.OPEN;
 
     @Column
     private String requirements;
 
+    // Resolved from the address when the task is posted; null when the geocoder has no match
+    private Double latitude;
+    private Double longitude;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "poster_id", nullable = false)
     private User poster;
@@ -53,18 +61,29 @@ public class Task {
     private User assignedTo;
 
     @Column(nullable = false, updatable = false)
+    @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
     private LocalDateTime completedAt;
 
+    // Optimistic lock: concurrent assign/complete of the same task cannot both commit.
+    // The default keeps ddl-auto=update valid on tables that already hold rows.
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private long version;
+
     // Relationships
+    // Excluded from the version so new applications never conflict with each other or with the poster
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
+    @Builder.Default
     private List<Application> applications = new ArrayList<>();
 
     @OneToOne(mappedBy = "task", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Transaction transaction;
 
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
     private List<Review> reviews = new ArrayList<>();
 
 }
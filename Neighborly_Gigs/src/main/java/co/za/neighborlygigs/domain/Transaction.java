@@ -1,13 +1,17 @@
 package co.za.neighborlygigs.domain;
 
 import co.za.neighborlygigs.domain.enums.TransactionStatus;
+import co.za.neighborlygigs.money.Money;
+import co.za.neighborlygigs.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.*;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+        @Index(name = "idx_transaction_status_id", columnList = "status, id"),
+        @Index(name = "idx_transaction_created_at", columnList = "createdAt, id")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Transaction {
     @Id
@@ -18,22 +22,31 @@ public class Transaction {
     @JoinColumn(name = "task_id", nullable = false, unique = true)
     private Task task;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal platformFee; // 20%
+    private Money platformFee; // 20%
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal payoutToCompleter; // 80%
+    private Money payoutToCompleter; // 80%
 
+    // Gateway reference once the payout has gone through
     private String payfastPaymentId;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
+    @Builder.Default
     private TransactionStatus status = TransactionStatus.PENDING;
 
     @Column(nullable = false, updatable = false)
+    @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    // When the settlement job moved it out of PENDING
+    private LocalDateTime settledAt;
 }
 
@@ -0,0 +1,32 @@
+package co.za.neighborlygigs.domain;
+
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+// Completed jobs per user and category, kept beside UserReputation so applicant ranking joins it by key
+@Entity
+@Table(name = "user_category_jobs")
+@IdClass(UserCategoryJobs.Key.class)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class UserCategoryJobs {
+
+    @Id
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private TaskCategory category;
+
+    @Column(nullable = false)
+    private long completedJobs;
+
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private TaskCategory category;
+    }
+}
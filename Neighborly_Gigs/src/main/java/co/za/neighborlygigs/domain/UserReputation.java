@@ -0,0 +1,64 @@
+package co.za.neighborlygigs.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+// Materialized review/job aggregates for one user, so profile and task pages read reputation by primary key
+@Entity
+@Table(name = "user_reputation")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class UserReputation {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(nullable = false)
+    private long ratingCount;
+
+    // Rating histogram
+    @Column(nullable = false)
+    private long oneStar;
+    @Column(nullable = false)
+    private long twoStar;
+    @Column(nullable = false)
+    private long threeStar;
+    @Column(nullable = false)
+    private long fourStar;
+    @Column(nullable = false)
+    private long fiveStar;
+
+    @Column(nullable = false)
+    private long completedJobs;
+
+    // Centroid of the completed jobs that had coordinates, as running sums: where this user works
+    @Column(nullable = false)
+    private double latitudeSum;
+    @Column(nullable = false)
+    private double longitudeSum;
+    @Column(nullable = false)
+    private long locatedJobs;
+
+    // Minutes from a task being posted to this user applying, refreshed by the nightly reconcile
+    @Column(nullable = false)
+    private long responseMinutesSum;
+    @Column(nullable = false)
+    private long responseCount;
+
+    private LocalDateTime updatedAt;
+
+    public static UserReputation empty(Long userId) {
+        return UserReputation.builder().userId(userId).updatedAt(LocalDateTime.now()).build();
+    }
+
+    // One decimal place; null until the user has been reviewed
+    public Double getAverageRating() {
+        if (ratingCount == 0) {
+            return null;
+        }
+        return Math.round(ratingSum * 10.0 / ratingCount) / 10.0;
+    }
+}
@@ -0,0 +1,8 @@
+package co.za.neighborlygigs.domain.enums;
+
+public enum EmailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
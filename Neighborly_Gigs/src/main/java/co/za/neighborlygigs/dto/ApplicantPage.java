@@ -0,0 +1,16 @@
+package co.za.neighborlygigs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// One page of a task's applicants, best first
+@Getter
+@AllArgsConstructor
+public class ApplicantPage {
+    private final List<RankedApplicant> applicants;
+    private final int page;
+    private final int totalApplicants;
+    private final boolean hasMore;
+}
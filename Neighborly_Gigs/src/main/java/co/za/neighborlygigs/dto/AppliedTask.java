@@ -0,0 +1,17 @@
+package co.za.neighborlygigs.dto;
+
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// A task someone applied to, as much of it as a worker's recommendation profile needs
+@Getter
+@AllArgsConstructor
+public class AppliedTask {
+    private final Long taskId;
+    private final TaskCategory category;
+    private final TaskStatus status;
+    private final Double latitude;
+    private final Double longitude;
+}
@@ -0,0 +1,74 @@
+package co.za.neighborlygigs.dto;
+
+import co.za.neighborlygigs.domain.enums.ApplicationStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// One application with the applicant's precomputed features, built by a single JPQL constructor query;
+// score and distance are filled in by the ranking service
+@Getter
+public class RankedApplicant {
+    private final Long applicationId;
+    private final Long applicantId;
+    private final String firstName;
+    private final String lastName;
+    private final String profilePictureUrl;
+    private final String message;
+    private final ApplicationStatus status;
+    private final LocalDateTime appliedAt;
+    private final long ratingSum;
+    private final long ratingCount;
+    private final long completedJobs;
+    private final long categoryJobs;
+    // Null when there is nothing to average
+    private final Double averageResponseMinutes;
+    private final Double homeLatitude;
+    private final Double homeLongitude;
+
+    private double score;
+    private Double distanceKm;
+
+    public RankedApplicant(Long applicationId, Long applicantId, String firstName, String lastName,
+                           String profilePictureUrl, String message, ApplicationStatus status, LocalDateTime appliedAt,
+                           long ratingSum, long ratingCount, long completedJobs, long categoryJobs,
+                           long responseMinutesSum, long responseCount,
+                           double latitudeSum, double longitudeSum, long locatedJobs) {
+        this.applicationId = applicationId;
+        this.applicantId = applicantId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.profilePictureUrl = profilePictureUrl;
+        this.message = message;
+        this.status = status;
+        this.appliedAt = appliedAt;
+        this.ratingSum = ratingSum;
+        this.ratingCount = ratingCount;
+        this.completedJobs = completedJobs;
+        this.categoryJobs = categoryJobs;
+        this.averageResponseMinutes = responseCount == 0 ? null : (double) responseMinutesSum / responseCount;
+        this.homeLatitude = locatedJobs == 0 ? null : latitudeSum / locatedJobs;
+        this.homeLongitude = locatedJobs == 0 ? null : longitudeSum / locatedJobs;
+    }
+
+    public void score(double score, Double distanceKm) {
+        this.score = score;
+        this.distanceKm = distanceKm;
+    }
+
+    public boolean hasHomeLocation() {
+        return homeLatitude != null && homeLongitude != null;
+    }
+
+    // One decimal place, as UserReputation shows it; null until the applicant has been reviewed
+    public Double getAverageRating() {
+        if (ratingCount == 0) {
+            return null;
+        }
+        return Math.round(ratingSum * 10.0 / ratingCount) / 10.0;
+    }
+
+    public String getName() {
+        return firstName + " " + lastName;
+    }
+}
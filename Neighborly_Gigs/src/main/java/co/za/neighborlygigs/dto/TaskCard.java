@@ -0,0 +1,70 @@
+package co.za.neighborlygigs.dto;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.money.Money;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// Read model for job board cards, built by a single JPQL constructor query (poster joined, never lazy-loaded)
+@Getter
+public class TaskCard {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final TaskCategory category;
+    private final Money budget;
+    private final String address;
+    private final String requirements;
+    private final Double latitude;
+    private final Double longitude;
+    private final LocalDateTime createdAt;
+    private final Long posterId;
+    private final String posterFirstName;
+    private final String posterLastName;
+
+    // Only set on copies returned by a radius search
+    private Double distanceKm;
+
+    public TaskCard(Long id, String title, String description, TaskCategory category, Money budget,
+                    String address, String requirements, Double latitude, Double longitude,
+                    LocalDateTime createdAt, Long posterId, String posterFirstName, String posterLastName) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.category = category;
+        this.budget = budget;
+        this.address = address;
+        this.requirements = requirements;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.createdAt = createdAt;
+        this.posterId = posterId;
+        this.posterFirstName = posterFirstName;
+        this.posterLastName = posterLastName;
+    }
+
+    public static TaskCard from(Task task) {
+        return new TaskCard(task.getId(), task.getTitle(), task.getDescription(), task.getCategory(),
+                task.getBudget(), task.getAddress(), task.getRequirements(), task.getLatitude(), task.getLongitude(),
+                task.getCreatedAt(), task.getPoster().getId(), task.getPoster().getFirstName(),
+                task.getPoster().getLastName());
+    }
+
+    // Cards are shared by the caches, so distances go on a copy
+    public TaskCard withDistance(double distanceKm) {
+        TaskCard copy = new TaskCard(id, title, description, category, budget, address, requirements,
+                latitude, longitude, createdAt, posterId, posterFirstName, posterLastName);
+        copy.distanceKm = distanceKm;
+        return copy;
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    public String getPosterName() {
+        return posterFirstName + " " + posterLastName;
+    }
+}
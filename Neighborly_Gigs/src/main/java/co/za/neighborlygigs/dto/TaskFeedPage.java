@@ -0,0 +1,18 @@
+package co.za.neighborlygigs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// One keyset page of the open-task feed; nextCursor is null on the last page
+@Getter
+@AllArgsConstructor
+public class TaskFeedPage {
+    private final List<TaskCard> tasks;
+    private final Long nextCursor;
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -16,7 +16,7 @@ public class TaskForm {
     @NotBlank(message = "Description is required")
     private String description;
 
-    @NotBlank(message = "Category is required")
+    @NotNull(message = "Category is required")
     private TaskCategory category; // CLEANING, YARD_WORK, PET_CARE, TUTORING, DELIVERY, ERRANDS
 
     @NotNull(message = "Budget is required")
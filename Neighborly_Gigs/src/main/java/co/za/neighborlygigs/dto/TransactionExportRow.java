@@ -0,0 +1,47 @@
+package co.za.neighborlygigs.dto;
+
+import co.za.neighborlygigs.domain.enums.TransactionStatus;
+import co.za.neighborlygigs.money.Money;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// One line of the finance export, built by a JPQL constructor query so no entity is ever loaded
+@Getter
+public class TransactionExportRow {
+    private final Long id;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime settledAt;
+    private final TransactionStatus status;
+    private final Money totalAmount;
+    private final Money platformFee;
+    private final Money payoutToCompleter;
+    private final String paymentReference;
+    private final Long taskId;
+    private final String taskTitle;
+    // Null when the task was completed without anyone assigned
+    private final Long completerId;
+    private final String completerFirstName;
+    private final String completerLastName;
+    private final String completerEmail;
+
+    public TransactionExportRow(Long id, LocalDateTime createdAt, LocalDateTime settledAt, TransactionStatus status,
+                                Money totalAmount, Money platformFee, Money payoutToCompleter, String paymentReference,
+                                Long taskId, String taskTitle, Long completerId, String completerFirstName,
+                                String completerLastName, String completerEmail) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.settledAt = settledAt;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.platformFee = platformFee;
+        this.payoutToCompleter = payoutToCompleter;
+        this.paymentReference = paymentReference;
+        this.taskId = taskId;
+        this.taskTitle = taskTitle;
+        this.completerId = completerId;
+        this.completerFirstName = completerFirstName;
+        this.completerLastName = completerLastName;
+        this.completerEmail = completerEmail;
+    }
+}
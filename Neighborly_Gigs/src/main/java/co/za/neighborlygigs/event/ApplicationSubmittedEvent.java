@@ -0,0 +1,14 @@
+package co.za.neighborlygigs.event;
+
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published when someone applies to a task; listeners act on it after the transaction commits
+@Getter
+@AllArgsConstructor
+public class ApplicationSubmittedEvent {
+    private final Long applicantId;
+    private final Long taskId;
+    private final TaskCategory category;
+}
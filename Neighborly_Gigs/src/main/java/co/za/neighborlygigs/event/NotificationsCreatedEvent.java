@@ -0,0 +1,13 @@
+package co.za.neighborlygigs.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Published when notifications are saved; one entry per notification (a recipient may repeat)
+@Getter
+@AllArgsConstructor
+public class NotificationsCreatedEvent {
+    private final List<Long> recipientIds;
+}
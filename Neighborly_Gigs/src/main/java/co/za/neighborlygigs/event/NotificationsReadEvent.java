@@ -0,0 +1,11 @@
+package co.za.neighborlygigs.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published when a user marks all their notifications as read
+@Getter
+@AllArgsConstructor
+public class NotificationsReadEvent {
+    private final Long userId;
+}
@@ -0,0 +1,15 @@
+package co.za.neighborlygigs.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published when a review is saved; listeners act on it after the transaction commits
+@Getter
+@AllArgsConstructor
+public class ReviewSubmittedEvent {
+    private final Long reviewId;
+    private final Long taskId;
+    private final Long reviewerId;
+    private final Long revieweeId;
+    private final int rating;
+}
@@ -0,0 +1,14 @@
+package co.za.neighborlygigs.event;
+
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published when a task leaves OPEN (assigned, completed, cancelled)
+@Getter
+@AllArgsConstructor
+public class TaskClosedEvent {
+    private final Long taskId;
+    private final TaskStatus newStatus;
+    private final Long assignedToId;
+}
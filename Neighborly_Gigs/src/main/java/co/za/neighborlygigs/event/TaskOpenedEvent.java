@@ -0,0 +1,12 @@
+package co.za.neighborlygigs.event;
+
+import co.za.neighborlygigs.dto.TaskCard;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published when a task is posted; listeners act on it after the transaction commits
+@Getter
+@AllArgsConstructor
+public class TaskOpenedEvent {
+    private final TaskCard card;
+}
@@ -33,10 +33,8 @@ public class NotificationFactory {
         return Notification.builder()
                 .recipient(recipient)
                 .title("Review your recent gig!")
-                .message(String.format(
-                        "%s helped you with “%s” — please take a moment to leave a review. " +
-                                "Your feedback helps build trust in our community! 🌟",
-                        otherName, taskTitle))
+                .message(otherName + " helped you with “" + taskTitle + "” — please take a moment to leave a review. " +
+                        "Your feedback helps build trust in our community! 🌟")
                 .build();
     }
 
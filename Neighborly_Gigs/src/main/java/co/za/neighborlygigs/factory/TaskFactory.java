@@ -5,6 +5,7 @@ import co.za.neighborlygigs.domain.enums.TaskCategory;
 import co.za.neighborlygigs.domain.enums.TaskStatus;
 import co.za.neighborlygigs.domain.User;
 import co.za.neighborlygigs.util.*;
+import co.za.neighborlygigs.money.Money;
 import java.math.BigDecimal;
 
 public class TaskFactory {
@@ -34,7 +35,7 @@ public class TaskFactory {
                 .title(title)
                 .description(description)
                 .category(category)
-                .budget(budget)
+                .budget(Money.of(budget))
                 .address(address)
                 .requirements(requirements)
                 .poster(poster)
@@ -66,7 +67,7 @@ public class TaskFactory {
                 .title(title)
                 .description(description)
                 .category(category)
-                .budget(budget)
+                .budget(Money.of(budget))
                 .address(address)
                 .requirements(requirements)
                 .poster(poster)
@@ -3,17 +3,16 @@ package co.za.neighborlygigs.factory;
 import co.za.neighborlygigs.domain.Task;
 import co.za.neighborlygigs.domain.Transaction;
 import co.za.neighborlygigs.domain.enums.TransactionStatus;
-
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import co.za.neighborlygigs.money.Money;
 
 public class TransactionFactory {
-    private static final BigDecimal PLATFORM_FEE_RATE = new BigDecimal("0.20");
+    private static final int PLATFORM_FEE_BASIS_POINTS = 2_000; // 20%
 
     public static Transaction createTransaction(Task task) {
-        BigDecimal total = task.getBudget();
-        BigDecimal platformFee = total.multiply(PLATFORM_FEE_RATE).setScale(2, RoundingMode.HALF_UP);
-        BigDecimal payout = total.subtract(platformFee).setScale(2, RoundingMode.HALF_UP);
+        // Whole cents: the fee rounds HALF_UP to the cent and the payout is the exact remainder
+        Money total = task.getBudget();
+        Money platformFee = total.share(PLATFORM_FEE_BASIS_POINTS);
+        Money payout = total.minus(platformFee);
 
         return Transaction.builder()
                 .task(task)
@@ -0,0 +1,87 @@
+package co.za.neighborlygigs.geo;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Local stand-in for a geocoding API: matches the address against a small gazetteer of
+ * South African towns and suburbs. Addresses are written specific-to-general
+ * ("12 Rivonia Rd, Sandton, Johannesburg"), so the place named earliest in the address wins.
+ */
+@Component
+public class GazetteerGeocoder implements Geocoder {
+
+    private static final Map<String, GeoPoint> PLACES = new LinkedHashMap<>();
+
+    static {
+        // Gauteng
+        place("johannesburg", -26.2041, 28.0473);
+        place("sandton", -26.1076, 28.0567);
+        place("rosebank", -26.1452, 28.0436);
+        place("randburg", -26.0936, 28.0064);
+        place("fourways", -26.0167, 28.0042);
+        place("midrand", -25.9992, 28.1263);
+        place("soweto", -26.2485, 27.8540);
+        place("alexandra", -26.1036, 28.0979);
+        place("braamfontein", -26.1929, 28.0340);
+        place("melville", -26.1763, 28.0080);
+        place("roodepoort", -26.1625, 27.8725);
+        place("diepsloot", -25.9333, 28.0125);
+        place("tembisa", -25.9964, 28.2268);
+        place("kempton park", -26.1000, 28.2333);
+        place("germiston", -26.2178, 28.1672);
+        place("boksburg", -26.2125, 28.2625);
+        place("benoni", -26.1885, 28.3208);
+        place("alberton", -26.2679, 28.1222);
+        place("pretoria", -25.7479, 28.2293);
+        place("tshwane", -25.7479, 28.2293);
+        place("hatfield", -25.7487, 28.2380);
+        place("centurion", -25.8603, 28.1894);
+        place("mamelodi", -25.7167, 28.4000);
+        place("soshanguve", -25.5225, 28.1003);
+        // Western Cape
+        place("cape town", -33.9249, 18.4241);
+        place("bellville", -33.9000, 18.6333);
+        place("stellenbosch", -33.9321, 18.8602);
+        place("khayelitsha", -34.0403, 18.6778);
+        // KwaZulu-Natal
+        place("durban", -29.8587, 31.0218);
+        place("umhlanga", -29.7256, 31.0842);
+        place("pietermaritzburg", -29.6006, 30.3794);
+        // Elsewhere
+        place("gqeberha", -33.9608, 25.6022);
+        place("port elizabeth", -33.9608, 25.6022);
+        place("east london", -33.0153, 27.9116);
+        place("bloemfontein", -29.0852, 26.1596);
+        place("polokwane", -23.9045, 29.4689);
+        place("mbombela", -25.4753, 30.9694);
+        place("nelspruit", -25.4753, 30.9694);
+        place("kimberley", -28.7282, 24.7499);
+        place("rustenburg", -25.6676, 27.2421);
+    }
+
+    private static void place(String name, double latitude, double longitude) {
+        PLACES.put(name, new GeoPoint(latitude, longitude));
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String address) {
+        if (address == null || address.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = address.toLowerCase();
+        GeoPoint best = null;
+        int bestIndex = Integer.MAX_VALUE;
+        for (Map.Entry<String, GeoPoint> entry : PLACES.entrySet()) {
+            int index = normalized.indexOf(entry.getKey());
+            if (index >= 0 && index < bestIndex) {
+                best = entry.getValue();
+                bestIndex = index;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+}
@@ -0,0 +1,8 @@
+package co.za.neighborlygigs.geo;
+
+import java.util.Optional;
+
+// Resolves a free-text address to coordinates. Swap in a real provider by declaring it as a @Primary bean.
+public interface Geocoder {
+    Optional<GeoPoint> geocode(String address);
+}
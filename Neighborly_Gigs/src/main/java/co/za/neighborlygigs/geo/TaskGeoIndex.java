@@ -0,0 +1,181 @@
+package co.za.neighborlygigs.geo;
+
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.event.TaskClosedEvent;
+import co.za.neighborlygigs.event.TaskOpenedEvent;
+import co.za.neighborlygigs.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Grid-bucket spatial index of OPEN tasks that have coordinates.
+ *
+ * Tasks are bucketed into fixed lat/lon cells (~2 km). A radius query walks rings of cells outward
+ * from the origin's cell, keeping the nearest {@code limit} matches by exact haversine distance, and
+ * stops at the first ring that cannot hold anything nearer than the furthest match kept. Its cost
+ * depends on how many tasks sit close to the origin, not on the number of open tasks or how many
+ * fall inside the radius.
+ */
+@Component
+public class TaskGeoIndex {
+    private static final Logger logger = LoggerFactory.getLogger(TaskGeoIndex.class);
+
+    private static final double CELL_DEGREES = 0.02;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    // Ring bounds are estimated on a flat grid; the margin keeps them below the true great-circle distance
+    private static final double RING_BOUND_MARGIN = 0.98;
+    public static final double MAX_RADIUS_KM = 100.0;
+
+    private final TaskRepository taskRepository;
+
+    // cell key -> (task id -> card)
+    private final Map<Long, Map<Long, TaskCard>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Long> cellByTask = new ConcurrentHashMap<>();
+
+    public TaskGeoIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        cells.clear();
+        cellByTask.clear();
+        for (TaskCard card : taskRepository.findCardsByStatus(TaskStatus.OPEN, Limit.unlimited())) {
+            add(card);
+        }
+        logger.info("Indexed {} located open tasks in {} grid cells", cellByTask.size(), cells.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskOpened(TaskOpenedEvent event) {
+        add(event.getCard());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskClosed(TaskClosedEvent event) {
+        remove(event.getTaskId());
+    }
+
+    // Open tasks within radiusKm of the point, nearest first, each carrying its distance
+    public List<TaskCard> findNearby(GeoPoint origin, double radiusKm, int limit) {
+        double radius = Math.min(Math.max(radiusKm, 0.0), MAX_RADIUS_KM);
+        double latSpan = radius / KM_PER_DEGREE_LAT;
+        double cosLat = Math.max(Math.cos(Math.toRadians(origin.getLatitude())), 0.01);
+        double lonSpan = radius / (KM_PER_DEGREE_LAT * cosLat);
+
+        int originLatCell = cellIndex(origin.getLatitude());
+        int originLonCell = cellIndex(origin.getLongitude());
+        int minLatCell = cellIndex(origin.getLatitude() - latSpan);
+        int maxLatCell = cellIndex(origin.getLatitude() + latSpan);
+        int minLonCell = cellIndex(origin.getLongitude() - lonSpan);
+        int maxLonCell = cellIndex(origin.getLongitude() + lonSpan);
+        int lastRing = Math.max(Math.max(originLatCell - minLatCell, maxLatCell - originLatCell),
+                Math.max(originLonCell - minLonCell, maxLonCell - originLonCell));
+        // Narrowest cell in the search box, where longitude cells are shortest
+        double poleward = Math.min(Math.abs(origin.getLatitude()) + latSpan, 89.0);
+        double cellKm = CELL_DEGREES * KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(poleward)) * RING_BOUND_MARGIN;
+
+        // Furthest kept match on top, so a nearer one can replace it
+        PriorityQueue<Match> nearest = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Match::distance).reversed());
+        for (int ring = 0; ring <= lastRing; ring++) {
+            // Everything in ring r is at least r - 1 whole cells from the origin
+            if (nearest.size() == limit && (ring - 1) * cellKm > nearest.peek().distance()) {
+                break;
+            }
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                int latCell = originLatCell + dLat;
+                if (latCell < minLatCell || latCell > maxLatCell) {
+                    continue;
+                }
+                // Top and bottom rows of the ring in full, otherwise only its two side cells
+                int step = (dLat == -ring || dLat == ring) ? 1 : 2 * ring;
+                for (int dLon = -ring; dLon <= ring; dLon += step) {
+                    int lonCell = originLonCell + dLon;
+                    if (lonCell >= minLonCell && lonCell <= maxLonCell) {
+                        collect(cells.get(cellKey(latCell, lonCell)), origin, radius, limit, nearest);
+                    }
+                }
+            }
+        }
+
+        List<TaskCard> matches = new ArrayList<>(nearest.size());
+        while (!nearest.isEmpty()) {
+            Match match = nearest.poll();
+            matches.add(match.card().withDistance(match.distance()));
+        }
+        Collections.reverse(matches);
+        return matches;
+    }
+
+    private static void collect(Map<Long, TaskCard> cell, GeoPoint origin, double radius, int limit,
+                                PriorityQueue<Match> nearest) {
+        if (cell == null) {
+            return;
+        }
+        for (TaskCard card : cell.values()) {
+            double distance = origin.distanceKmTo(card.getLatitude(), card.getLongitude());
+            if (distance > radius) {
+                continue;
+            }
+            if (nearest.size() < limit) {
+                nearest.add(new Match(card, distance));
+            } else if (distance < nearest.peek().distance()) {
+                nearest.poll();
+                nearest.add(new Match(card, distance));
+            }
+        }
+    }
+
+    public int size() {
+        return cellByTask.size();
+    }
+
+    private void add(TaskCard card) {
+        if (!card.hasLocation()) {
+            return;
+        }
+        remove(card.getId());
+        long key = cellKey(cellIndex(card.getLatitude()), cellIndex(card.getLongitude()));
+        cells.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(card.getId(), card);
+        cellByTask.put(card.getId(), key);
+    }
+
+    private void remove(Long taskId) {
+        Long key = cellByTask.remove(taskId);
+        if (key == null) {
+            return;
+        }
+        Map<Long, TaskCard> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(taskId);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    private record Match(TaskCard card, double distance) {
+    }
+}
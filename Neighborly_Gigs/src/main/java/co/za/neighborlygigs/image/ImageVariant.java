@@ -0,0 +1,37 @@
+package co.za.neighborlygigs.image;
+
+// Square JPEG renditions made from every uploaded picture, smallest first
+public enum ImageVariant {
+    AVATAR("avatar", 128),
+    THUMBNAIL("thumb", 512);
+
+    private final String name;
+    private final int size;
+
+    ImageVariant(String name, int size) {
+        this.name = name;
+        this.size = size;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public static ImageVariant largest() {
+        return THUMBNAIL;
+    }
+
+    // Smallest rendition at least this wide, or null when only the original is big enough
+    public static ImageVariant smallestFitting(int width) {
+        for (ImageVariant variant : values()) {
+            if (variant.size >= width) {
+                return variant;
+            }
+        }
+        return null;
+    }
+}
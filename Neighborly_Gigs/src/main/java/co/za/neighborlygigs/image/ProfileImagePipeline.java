@@ -0,0 +1,263 @@
+package co.za.neighborlygigs.image;
+
+import co.za.neighborlygigs.storage.BlobStore;
+import co.za.neighborlygigs.storage.StoredBlob;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Makes the {@link ImageVariant} renditions of uploaded pictures on a small dedicated pool.
+ *
+ * An upload queues its renditions and returns; a bounded queue absorbs bursts and anything beyond
+ * it is dropped, since a missing rendition is made on first request instead. Decoding reads only
+ * the centre square, subsampled close to the largest rendition, so a 10 MB photo never becomes a
+ * full-resolution raster. Concurrent requests for the same picture share one job.
+ */
+@Component
+public class ProfileImagePipeline {
+    private static final Logger logger = LoggerFactory.getLogger(ProfileImagePipeline.class);
+    private static final float JPEG_QUALITY = 0.85f;
+
+    static {
+        // Decode and encode in memory instead of through ImageIO's temp-file cache
+        ImageIO.setUseCache(false);
+    }
+
+    private final BlobStore blobStore;
+    private final ThreadPoolExecutor executor;
+    private final long onDemandTimeoutMillis;
+    private final long maxPixels;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder onDemand = new LongAdder();
+    private final LongAdder servedOriginal = new LongAdder();
+    private final LongAdder totalGenerateNanos = new LongAdder();
+
+    public ProfileImagePipeline(BlobStore blobStore,
+                                @Value("${neighborlygigs.images.pool-size:1}") int poolSize,
+                                @Value("${neighborlygigs.images.queue-capacity:32}") int queueCapacity,
+                                @Value("${neighborlygigs.images.on-demand-timeout-ms:2000}") long onDemandTimeoutMillis,
+                                @Value("${neighborlygigs.images.max-pixels:50000000}") long maxPixels) {
+        this.blobStore = blobStore;
+        this.onDemandTimeoutMillis = onDemandTimeoutMillis;
+        this.maxPixels = maxPixels;
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(1, poolSize);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Called after an upload; never blocks the request
+    public void submit(StoredBlob original) {
+        if (isImage(original)) {
+            generateAsync(original);
+        }
+    }
+
+    // Whether fitting() serves a rendition for this width once one exists, rather than always the original
+    public boolean hasRenditionFor(StoredBlob original, int width) {
+        return ImageVariant.smallestFitting(width) != null && isImage(original);
+    }
+
+    // The smallest stored rendition at least this wide, else the original
+    public StoredBlob fitting(StoredBlob original, int width) {
+        ImageVariant variant = ImageVariant.smallestFitting(width);
+        if (variant == null || !isImage(original)) {
+            return original;
+        }
+        StoredBlob stored = blobStore.findVariant(original.getKey(), variant.getName()).orElse(null);
+        if (stored != null) {
+            return stored;
+        }
+
+        // Not made yet (queue was full, still queued, or uploaded before renditions existed)
+        onDemand.increment();
+        CompletableFuture<Void> job = generateAsync(original);
+        if (job != null) {
+            try {
+                job.get(onDemandTimeoutMillis, TimeUnit.MILLISECONDS);
+                stored = blobStore.findVariant(original.getKey(), variant.getName()).orElse(null);
+            } catch (TimeoutException | ExecutionException e) {
+                // The job carries on in the background; this request makes do with the original
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (stored == null) {
+            servedOriginal.increment();
+            return original;
+        }
+        return stored;
+    }
+
+    public Map<String, Object> snapshotStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long done = generated.sum();
+        stats.put("poolSize", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("generated", done);
+        stats.put("rejected", rejected.sum());
+        stats.put("failed", failed.sum());
+        stats.put("onDemand", onDemand.sum());
+        stats.put("servedOriginal", servedOriginal.sum());
+        stats.put("avgGenerateMillis", done == 0 ? 0 : totalGenerateNanos.sum() / done / 1_000_000);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Null when the pool is saturated
+    private CompletableFuture<Void> generateAsync(StoredBlob original) {
+        String key = original.getKey();
+        CompletableFuture<Void> job;
+        try {
+            job = inFlight.computeIfAbsent(key, k -> CompletableFuture.runAsync(() -> generate(original), executor));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return null;
+        }
+        job.whenComplete((result, error) -> inFlight.remove(key, job));
+        return job;
+    }
+
+    private void generate(StoredBlob original) {
+        long start = System.nanoTime();
+        try {
+            BufferedImage square = decodeCentreSquare(original);
+            // Largest first, each scaled down from the previous one
+            ImageVariant[] variants = ImageVariant.values();
+            BufferedImage source = square;
+            for (int i = variants.length - 1; i >= 0; i--) {
+                source = scale(source, variants[i].getSize());
+                blobStore.storeVariant(original.getKey(), variants[i].getName(), new ByteArrayInputStream(encodeJpeg(source)));
+            }
+            generated.increment();
+            totalGenerateNanos.add(System.nanoTime() - start);
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            logger.warn("Could not make renditions of {}: {}", original.getKey(), e.getMessage());
+            throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+        }
+    }
+
+    private BufferedImage decodeCentreSquare(StoredBlob original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.getPath().toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Not a readable image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("Image is " + width + "x" + height + ", over the pixel limit");
+                }
+                int side = Math.min(width, height);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceRegion(new Rectangle((width - side) / 2, (height - side) / 2, side, side));
+                // Keep at least twice the largest rendition so the final downscale stays sharp
+                int step = Math.max(1, side / (ImageVariant.largest().getSize() * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Halves until within 2x of the target, then one bilinear step; flattens transparency onto white
+    private static BufferedImage scale(BufferedImage source, int size) {
+        BufferedImage current = source;
+        int currentSize = Math.min(source.getWidth(), source.getHeight());
+        while (currentSize / 2 >= size) {
+            currentSize /= 2;
+            current = draw(current, currentSize);
+        }
+        if (currentSize != size || current.getType() != BufferedImage.TYPE_INT_RGB) {
+            current = draw(current, size);
+        }
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int size) {
+        BufferedImage target = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, size, size);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, size, size, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 * 1024);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static boolean isImage(StoredBlob blob) {
+        return blob.getContentType() != null && blob.getContentType().startsWith("image/");
+    }
+}
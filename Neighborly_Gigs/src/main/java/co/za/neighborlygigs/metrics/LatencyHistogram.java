@@ -0,0 +1,85 @@
+package co.za.neighborlygigs.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram that is cheap enough to update on every request or statement.
+ *
+ * Recording is lock-free (one LongAdder per bucket). Percentiles are estimated as the upper bound of
+ * the bucket the rank falls in, which is plenty to tell a 5 ms endpoint from a 500 ms one.
+ */
+public class LatencyHistogram {
+    // Bucket upper bounds in microseconds: 0.5 ms ... 10 s, then overflow
+    private static final long[] BOUNDS_MICROS = {
+            500, 1_000, 2_000, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000,
+            500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MICROS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long micros = nanos / 1_000;
+        int bucket = 0;
+        while (bucket < BOUNDS_MICROS.length && micros > BOUNDS_MICROS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public Map<String, Object> snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        double max = maxNanos.get() / 1e6;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", total);
+        stats.put("avgMillis", total == 0 ? 0.0 : round(totalNanos.sum() / 1e6 / total));
+        stats.put("p50Millis", percentile(counts, total, 0.50, max));
+        stats.put("p90Millis", percentile(counts, total, 0.90, max));
+        stats.put("p99Millis", percentile(counts, total, 0.99, max));
+        stats.put("maxMillis", round(max));
+        return stats;
+    }
+
+    private static double percentile(long[] counts, long total, double fraction, double max) {
+        if (total == 0) {
+            return 0.0;
+        }
+        long rank = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // Never report more than the slowest sample actually seen
+                return i < BOUNDS_MICROS.length ? round(Math.min(BOUNDS_MICROS[i] / 1e3, max)) : round(max);
+            }
+        }
+        return round(max);
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 10) / 10.0;
+    }
+}
@@ -0,0 +1,172 @@
+package co.za.neighborlygigs.metrics;
+
+import co.za.neighborlygigs.cache.OpenTaskBoardCache;
+import co.za.neighborlygigs.cache.UserLookup;
+import co.za.neighborlygigs.datasource.ReadWriteRoutingDataSource;
+import co.za.neighborlygigs.datasource.RecentWriteFilter;
+import co.za.neighborlygigs.diagnostics.VirtualThreadPinningMonitor;
+import co.za.neighborlygigs.image.ProfileImagePipeline;
+import co.za.neighborlygigs.notification.NotificationStreamHub;
+import co.za.neighborlygigs.notification.UnreadNotificationCounter;
+import co.za.neighborlygigs.recommend.TaskRecommendations;
+import co.za.neighborlygigs.security.PooledPasswordEncoder;
+import co.za.neighborlygigs.service.EmailOutboxDispatcher;
+import co.za.neighborlygigs.service.PayoutSettlementJob;
+import co.za.neighborlygigs.storage.LocalBlobStore;
+import co.za.neighborlygigs.web.ConcurrentRequestLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Gathers the hot-path numbers every component already keeps into one report for the admin
+ * metrics endpoint. Nothing here is computed on the request path; a report is a read of counters.
+ */
+@Component
+public class MetricsReport {
+
+    private final RequestMetricsFilter requestMetrics;
+    private final DataSource dataSource;
+    private final EmailOutboxDispatcher outboxDispatcher;
+    private final PayoutSettlementJob settlementJob;
+    private final PooledPasswordEncoder passwordEncoder;
+    private final OpenTaskBoardCache boardCache;
+    private final UserLookup userLookup;
+    private final UnreadNotificationCounter unreadCounter;
+    private final TaskRecommendations recommendations;
+    private final NotificationStreamHub streamHub;
+    private final ProfileImagePipeline imagePipeline;
+    private final ObjectProvider<LocalBlobStore> blobStore;
+    private final ObjectProvider<ConcurrentRequestLimiter> requestLimiter;
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+    private final ObjectProvider<RecentWriteFilter> recentWriteFilter;
+
+    public MetricsReport(RequestMetricsFilter requestMetrics,
+                         DataSource dataSource,
+                         EmailOutboxDispatcher outboxDispatcher,
+                         PayoutSettlementJob settlementJob,
+                         PooledPasswordEncoder passwordEncoder,
+                         OpenTaskBoardCache boardCache,
+                         UserLookup userLookup,
+                         UnreadNotificationCounter unreadCounter,
+                         TaskRecommendations recommendations,
+                         NotificationStreamHub streamHub,
+                         ProfileImagePipeline imagePipeline,
+                         ObjectProvider<LocalBlobStore> blobStore,
+                         ObjectProvider<ConcurrentRequestLimiter> requestLimiter,
+                         ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor,
+                         ObjectProvider<ReadWriteRoutingDataSource> routingDataSource,
+                         ObjectProvider<RecentWriteFilter> recentWriteFilter) {
+        this.requestMetrics = requestMetrics;
+        this.dataSource = dataSource;
+        this.outboxDispatcher = outboxDispatcher;
+        this.settlementJob = settlementJob;
+        this.passwordEncoder = passwordEncoder;
+        this.boardCache = boardCache;
+        this.userLookup = userLookup;
+        this.unreadCounter = unreadCounter;
+        this.recommendations = recommendations;
+        this.streamHub = streamHub;
+        this.imagePipeline = imagePipeline;
+        this.blobStore = blobStore;
+        this.requestLimiter = requestLimiter;
+        this.pinningMonitor = pinningMonitor;
+        this.routingDataSource = routingDataSource;
+        this.recentWriteFilter = recentWriteFilter;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("endpoints", requestMetrics.snapshotStats());
+        report.put("slowRequests", requestMetrics.getSlowRequestCount());
+        report.put("sql", SqlStatementListener.snapshotStats());
+        ReadWriteRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing != null) {
+            report.put("connectionPool", connectionPoolStats(routing.getPrimary()));
+            Map<String, Object> replica = new LinkedHashMap<>(routing.snapshotStats());
+            replica.put("connectionPool", connectionPoolStats(routing.getReplica()));
+            recentWriteFilter.ifAvailable(filter -> replica.put("readYourWritesRequests", filter.getPrimaryRequestCount()));
+            report.put("replica", replica);
+        } else {
+            report.put("connectionPool", connectionPoolStats(dataSource));
+        }
+        report.put("outbox", outboxDispatcher.snapshotStats());
+        report.put("settlement", settlementJob.snapshotStats());
+        report.put("passwordHashing", passwordEncoder.snapshotStats());
+        report.put("caches", cacheStats());
+        LocalBlobStore localBlobs = blobStore.getIfAvailable();
+        if (localBlobs != null) {
+            report.put("fileStorage", localBlobs.snapshotStats());
+        }
+        report.put("images", imagePipeline.snapshotStats());
+        report.put("threads", threadStats());
+        return report;
+    }
+
+    private static Map<String, Object> connectionPoolStats(DataSource dataSource) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+                stats.put("maxSize", hikari.getMaximumPoolSize());
+                // The pool bean only exists once the first connection has been opened
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                if (pool != null) {
+                    stats.put("active", pool.getActiveConnections());
+                    stats.put("idle", pool.getIdleConnections());
+                    stats.put("waiting", pool.getThreadsAwaitingConnection());
+                }
+            }
+        } catch (SQLException e) {
+            stats.put("error", e.getMessage());
+        }
+        return stats;
+    }
+
+    private Map<String, Object> cacheStats() {
+        Map<String, Object> board = new LinkedHashMap<>();
+        board.put("hits", boardCache.getHitCount());
+        board.put("misses", boardCache.getMissCount());
+        board.put("hitRate", boardCache.getHitRate());
+        board.put("size", boardCache.size());
+        board.put("capacity", boardCache.getCapacity());
+
+        Map<String, Object> users = new LinkedHashMap<>();
+        long hits = userLookup.getHitCount();
+        long lookups = hits + userLookup.getMissCount();
+        users.put("hits", hits);
+        users.put("misses", userLookup.getMissCount());
+        users.put("hitRate", lookups == 0 ? 0.0 : (double) hits / lookups);
+        users.put("size", userLookup.size());
+
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("taskBoard", board);
+        caches.put("users", users);
+        caches.put("unreadCountsTracked", unreadCounter.trackedUsers());
+        caches.put("recommendations", recommendations.snapshotStats());
+        return caches;
+    }
+
+    private Map<String, Object> threadStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("notificationStreams", streamHub.connectionCount());
+        ConcurrentRequestLimiter limiter = requestLimiter.getIfAvailable();
+        if (limiter != null) {
+            stats.put("inFlight", limiter.getInFlight());
+            stats.put("queued", limiter.getQueued());
+            stats.put("rejected", limiter.getRejectedCount());
+        }
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+        if (monitor != null) {
+            stats.put("pinnedEvents", monitor.getPinnedCount());
+        }
+        return stats;
+    }
+}
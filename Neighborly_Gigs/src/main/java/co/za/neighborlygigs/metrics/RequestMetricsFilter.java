@@ -0,0 +1,144 @@
+package co.za.neighborlygigs.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms plus SQL count, SQL time and connection wait per request.
+ *
+ * Endpoints are keyed by method and mapped pattern ("GET /tasks/{id}"), so ids in the path don't
+ * create new series. A request over {@code slow-request-ms} or {@code slow-request-statements} is
+ * logged as one line with its database breakdown, which replaces logging every statement.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsFilter.class);
+    // Requests that never reach a handler are keyed by raw path; cap those so scans can't grow the map
+    private static final int MAX_ENDPOINTS = 200;
+
+    private final long slowRequestNanos;
+    private final int slowRequestStatements;
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder slowRequests = new LongAdder();
+
+    public RequestMetricsFilter(@Value("${neighborlygigs.metrics.slow-request-ms:1000}") long slowRequestMillis,
+                                @Value("${neighborlygigs.metrics.slow-request-statements:50}") int slowRequestStatements) {
+        this.slowRequestNanos = slowRequestMillis * 1_000_000;
+        this.slowRequestStatements = slowRequestStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestProbe probe = RequestProbe.start();
+        boolean failed = false;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            RequestProbe.end();
+            long nanos = System.nanoTime() - start;
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            record(endpoint(request, status), nanos, status, probe);
+        }
+    }
+
+    // Static assets never touch the database
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/css/") || path.startsWith("/js/")
+                || path.startsWith("/images/") || path.startsWith("/webjars/");
+    }
+
+    public long getSlowRequestCount() {
+        return slowRequests.sum();
+    }
+
+    public Map<String, Object> snapshotStats() {
+        Map<String, Object> stats = new TreeMap<>();
+        endpoints.forEach((endpoint, endpointStats) -> stats.put(endpoint, endpointStats.snapshot()));
+        return stats;
+    }
+
+    private void record(String endpoint, long nanos, int status, RequestProbe probe) {
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats == null) {
+            String key = endpoints.size() < MAX_ENDPOINTS ? endpoint : "[other]";
+            stats = endpoints.computeIfAbsent(key, k -> new EndpointStats());
+        }
+        stats.record(nanos, status, probe);
+
+        if (nanos > slowRequestNanos || probe.getStatements() > slowRequestStatements) {
+            slowRequests.increment();
+            logger.warn("Slow request: {} -> {} in {} ms, {} SQL statements ({} ms), {} connections (waited {} ms)",
+                    endpoint, status, nanos / 1_000_000, probe.getStatements(), probe.getStatementNanos() / 1_000_000,
+                    probe.getConnections(), probe.getConnectionWaitNanos() / 1_000_000);
+        }
+    }
+
+    private static String endpoint(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return request.getMethod() + " " + pattern;
+        }
+        if (status == HttpServletResponse.SC_NOT_FOUND) {
+            return request.getMethod() + " [unmatched]";
+        }
+        // Handled before dispatch, e.g. form login and logout in the security filter chain
+        return request.getMethod() + " " + request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static class EndpointStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAdder statementNanos = new LongAdder();
+        private final LongAdder connectionWaitNanos = new LongAdder();
+
+        void record(long nanos, int status, RequestProbe probe) {
+            latency.record(nanos);
+            if (status >= 500) {
+                serverErrors.increment();
+            }
+            statements.add(probe.getStatements());
+            maxStatements.accumulate(probe.getStatements());
+            statementNanos.add(probe.getStatementNanos());
+            connectionWaitNanos.add(probe.getConnectionWaitNanos());
+        }
+
+        Map<String, Object> snapshot() {
+            Map<String, Object> stats = new LinkedHashMap<>(latency.snapshot());
+            long count = Math.max(1, latency.getCount());
+            stats.put("serverErrors", serverErrors.sum());
+            stats.put("avgStatements", Math.round(statements.sum() * 10.0 / count) / 10.0);
+            stats.put("maxStatements", maxStatements.get());
+            stats.put("avgSqlMillis", Math.round(statementNanos.sum() / 1e5 / count) / 10.0);
+            stats.put("avgConnectionWaitMillis", Math.round(connectionWaitNanos.sum() / 1e5 / count) / 10.0);
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package co.za.neighborlygigs.metrics;
+
+/**
+ * Database work done by the request running on the current thread: statement count and time, and
+ * how long it waited for pooled connections. Filled in by {@link SqlStatementListener}, read by
+ * {@link RequestMetricsFilter} when the request ends.
+ */
+public final class RequestProbe {
+    private static final ThreadLocal<RequestProbe> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long statementNanos;
+    private int connections;
+    private long connectionWaitNanos;
+
+    private RequestProbe() {
+    }
+
+    static RequestProbe start() {
+        RequestProbe probe = new RequestProbe();
+        CURRENT.set(probe);
+        return probe;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // Null outside a request (scheduled jobs, startup), where only the global totals are kept
+    static RequestProbe current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        statementNanos += nanos;
+    }
+
+    void connectionAcquired(long nanos) {
+        connections++;
+        connectionWaitNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+}
@@ -0,0 +1,75 @@
+package co.za.neighborlygigs.metrics;
+
+import org.hibernate.SessionEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Times every JDBC statement, batch and connection checkout Hibernate performs.
+ *
+ * Hibernate creates one instance per session (registered through
+ * {@code hibernate.session.events.auto}), so the start timestamps need no synchronization. Timings
+ * go to the current {@link RequestProbe}, if any, and to process-wide histograms. Statement text is
+ * not captured here; {@code hibernate.log_slow_query} logs the individual slow statements.
+ */
+public class SqlStatementListener implements SessionEventListener {
+    private static final LatencyHistogram STATEMENTS = new LatencyHistogram();
+    private static final LatencyHistogram CONNECTION_WAIT = new LatencyHistogram();
+
+    private long statementStart;
+    private long acquisitionStart;
+
+    public static Map<String, Object> snapshotStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statements", STATEMENTS.snapshot());
+        stats.put("connectionWait", CONNECTION_WAIT.snapshot());
+        return stats;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statementEnded();
+    }
+
+    // A JDBC batch is one round trip, so it counts as one statement
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statementEnded();
+    }
+
+    // Includes the time spent queueing for a free Hikari connection
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        long nanos = System.nanoTime() - acquisitionStart;
+        CONNECTION_WAIT.record(nanos);
+        RequestProbe probe = RequestProbe.current();
+        if (probe != null) {
+            probe.connectionAcquired(nanos);
+        }
+    }
+
+    private void statementEnded() {
+        long nanos = System.nanoTime() - statementStart;
+        STATEMENTS.record(nanos);
+        RequestProbe probe = RequestProbe.current();
+        if (probe != null) {
+            probe.statementExecuted(nanos);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package co.za.neighborlygigs.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of rand held as a whole number of cents.
+ *
+ * Fee splits and totals are plain long arithmetic instead of BigDecimal objects, and rounding is
+ * HALF_UP to the cent, exactly as {@code setScale(2, RoundingMode.HALF_UP)} rounds. Overflow throws
+ * rather than wrapping. Instances are immutable.
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+    private static final long BASIS_POINTS = 10_000;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    // Rounds HALF_UP to the cent; throws ArithmeticException if the amount does not fit in a long of cents
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    // basisPoints / 10,000 of this amount (2000 is 20%), rounded HALF_UP to the cent
+    public Money share(int basisPoints) {
+        long scaled = Math.multiplyExact(cents, basisPoints);
+        long whole = scaled / BASIS_POINTS;
+        long rest = scaled % BASIS_POINTS;
+        // HALF_UP rounds a half away from zero, so look at the remainder's size and take its sign
+        if (Math.abs(rest) * 2 >= BASIS_POINTS) {
+            whole += Long.signum(rest);
+        }
+        return ofCents(whole);
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && cents == other.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    // Plain decimal with two places ("1249.99"), as the BigDecimal column value would print
+    @Override
+    public String toString() {
+        return getAmount().toPlainString();
+    }
+}
@@ -0,0 +1,25 @@
+package co.za.neighborlygigs.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
+import java.math.BigDecimal;
+
+// Stores Money in the existing DECIMAL(10,2) columns. Money is immutable, so Hibernate compares
+// snapshots by equals instead of deep-copying the value for dirty checking.
+@Converter
+@Mutability(Immutability.class)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.getAmount();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
@@ -0,0 +1,92 @@
+package co.za.neighborlygigs.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Live Server-Sent Event connections per user.
+ *
+ * Emitters run on async servlet support, so an idle browser tab costs one registry entry and an
+ * open socket, not a request thread. A periodic heartbeat keeps proxies from closing idle streams
+ * and flushes out connections the browser has already dropped.
+ */
+@Component
+public class NotificationStreamHub {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamHub.class);
+
+    private final long timeoutMillis;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private volatile Consumer<Long> lastDisconnectListener = userId -> { };
+
+    public NotificationStreamHub(@Value("${neighborlygigs.notifications.stream-timeout-ms:1800000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SseEmitter connect(Long userId, long unreadCount) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitters.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> disconnect(userId, emitter));
+        emitter.onTimeout(() -> disconnect(userId, emitter));
+        emitter.onError(e -> disconnect(userId, emitter));
+        send(userId, emitter, SseEmitter.event().name("unread").data(unreadCount));
+        return emitter;
+    }
+
+    public void publishUnreadCount(Long userId, long unreadCount) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            send(userId, emitter, SseEmitter.event().name("unread").data(unreadCount));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${neighborlygigs.notifications.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                send(userId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    void onLastDisconnect(Consumer<Long> listener) {
+        this.lastDisconnectListener = listener;
+    }
+
+    public int connectionCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping notification stream for user {}: {}", userId, e.getMessage());
+            emitter.completeWithError(e);
+            disconnect(userId, emitter);
+        }
+    }
+
+    private void disconnect(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            if (userEmitters.isEmpty()) {
+                lastDisconnectListener.accept(id);
+                return null;
+            }
+            return userEmitters;
+        });
+    }
+}
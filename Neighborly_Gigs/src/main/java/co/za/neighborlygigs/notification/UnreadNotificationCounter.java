@@ -0,0 +1,151 @@
+package co.za.neighborlygigs.notification;
+
+import co.za.neighborlygigs.datasource.PrimaryReads;
+import co.za.neighborlygigs.event.NotificationsCreatedEvent;
+import co.za.neighborlygigs.event.NotificationsReadEvent;
+import co.za.neighborlygigs.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-memory unread notification count per user, so the navbar badge never runs a COUNT query.
+ *
+ * A user's count is loaded from the database the first time it is asked for, then kept current
+ * from notification events; it is dropped again when the user's last live stream disconnects.
+ *
+ * The entry is registered before the count is queried, and events arriving during the query are
+ * collected in it rather than dropped. Such an event may or may not be in the queried count (its
+ * commit can fall either side of the query), so the count is queried again until one comes back
+ * without any, for at most {@link #LOAD_ATTEMPTS} queries; after that the events are added on top.
+ */
+@Component
+public class UnreadNotificationCounter {
+    static final int LOAD_ATTEMPTS = 3;
+
+    private final ToLongFunction<Long> unreadQuery;
+    private final NotificationStreamHub streamHub;
+    private final Map<Long, Count> counts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+                                     NotificationStreamHub streamHub) {
+        this(notificationRepository::countByRecipient_IdAndReadFalse, streamHub);
+    }
+
+    UnreadNotificationCounter(ToLongFunction<Long> unreadQuery, NotificationStreamHub streamHub) {
+        this.unreadQuery = unreadQuery;
+        this.streamHub = streamHub;
+        streamHub.onLastDisconnect(counts::remove);
+    }
+
+    public long getUnreadCount(Long userId) {
+        Count count = counts.get(userId);
+        if (count == null) {
+            Count placeholder = new Count();
+            count = counts.putIfAbsent(userId, placeholder);
+            if (count == null) {
+                return load(userId, placeholder);
+            }
+        }
+        long value = count.get();
+        // Another request is still loading it; answer from the database rather than wait
+        return value >= 0 ? value : query(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        Map<Long, Integer> added = new HashMap<>();
+        for (Long recipientId : event.getRecipientIds()) {
+            added.merge(recipientId, 1, Integer::sum);
+        }
+        added.forEach((userId, delta) -> {
+            // Users we are not tracking will load a fresh count when they next ask
+            Count count = counts.get(userId);
+            if (count != null) {
+                long value = count.add(delta);
+                if (value >= 0) {
+                    streamHub.publishUnreadCount(userId, value);
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsRead(NotificationsReadEvent event) {
+        Count count = counts.get(event.getUserId());
+        if (count != null) {
+            count.reset();
+        }
+        streamHub.publishUnreadCount(event.getUserId(), 0);
+    }
+
+    public int trackedUsers() {
+        return counts.size();
+    }
+
+    private long load(Long userId, Count count) {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                long value = count.settle(query(userId), attempt == LOAD_ATTEMPTS);
+                if (value >= 0) {
+                    return value;
+                }
+            }
+        } catch (RuntimeException e) {
+            counts.remove(userId, count);
+            throw e;
+        }
+    }
+
+    // Query outside any map or entry lock: a virtual thread blocked in one would pin its carrier
+    private long query(Long userId) {
+        return PrimaryReads.call(() -> unreadQuery.applyAsLong(userId));
+    }
+
+    // Guarded by its own monitor, held only for arithmetic. -1 from get() and add() means still loading
+    private static final class Count {
+        private long value;
+        private boolean loaded;
+        // Events since the current query started; while loading, value holds their net effect
+        private boolean eventsDuringLoad;
+        private boolean readDuringLoad;
+
+        synchronized long get() {
+            return loaded ? value : -1;
+        }
+
+        synchronized long add(long delta) {
+            value += delta;
+            eventsDuringLoad = !loaded;
+            return loaded ? value : -1;
+        }
+
+        synchronized void reset() {
+            value = 0;
+            readDuringLoad = !loaded;
+            eventsDuringLoad = !loaded;
+        }
+
+        // The loaded count, or -1 to query again because events arrived while it ran
+        synchronized long settle(long queried, boolean lastAttempt) {
+            if (eventsDuringLoad && !lastAttempt) {
+                value = 0;
+                eventsDuringLoad = false;
+                readDuringLoad = false;
+                return -1;
+            }
+            // After a mark-as-read, only what arrived since counts
+            if (!readDuringLoad) {
+                value += queried;
+            }
+            loaded = true;
+            return value;
+        }
+    }
+}
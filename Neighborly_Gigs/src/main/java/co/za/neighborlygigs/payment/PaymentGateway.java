@@ -0,0 +1,13 @@
+package co.za.neighborlygigs.payment;
+
+import java.util.List;
+import java.util.Map;
+
+// Pays workers out. Swap in a real provider by declaring it as a @Primary bean.
+// Implementations must treat the transaction id as an idempotency key: paying the same id twice
+// returns the first result instead of moving money again, which is what makes settlement restartable.
+public interface PaymentGateway {
+    // Results by transaction id; ids missing from the map are retried on a later run.
+    // Throws PaymentGatewayException when the whole call failed and nothing is known.
+    Map<Long, PayoutResult> payout(List<PayoutRequest> requests);
+}
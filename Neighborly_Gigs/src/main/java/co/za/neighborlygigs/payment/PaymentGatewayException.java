@@ -0,0 +1,12 @@
+package co.za.neighborlygigs.payment;
+
+// A gateway call that failed as a whole (timeout, outage); the payouts stay PENDING and are retried
+public class PaymentGatewayException extends RuntimeException {
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
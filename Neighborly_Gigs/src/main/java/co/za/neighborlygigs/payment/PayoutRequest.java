@@ -0,0 +1,19 @@
+package co.za.neighborlygigs.payment;
+
+import co.za.neighborlygigs.money.Money;
+import lombok.Getter;
+
+// One pending payout, read straight from the transaction table by a JPQL constructor query
+@Getter
+public class PayoutRequest {
+    private final Long transactionId;
+    // The worker the task was assigned to; null when the task was completed without one
+    private final Long payeeId;
+    private final Money amount;
+
+    public PayoutRequest(Long transactionId, Long payeeId, Money amount) {
+        this.transactionId = transactionId;
+        this.payeeId = payeeId;
+        this.amount = amount;
+    }
+}
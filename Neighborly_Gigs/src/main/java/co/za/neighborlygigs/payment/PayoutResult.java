@@ -0,0 +1,25 @@
+package co.za.neighborlygigs.payment;
+
+import lombok.Getter;
+
+// Final answer from the gateway for one payout: paid (with the gateway's reference) or refused
+@Getter
+public class PayoutResult {
+    private final boolean paid;
+    private final String reference;
+    private final String reason;
+
+    private PayoutResult(boolean paid, String reference, String reason) {
+        this.paid = paid;
+        this.reference = reference;
+        this.reason = reason;
+    }
+
+    public static PayoutResult paid(String reference) {
+        return new PayoutResult(true, reference, null);
+    }
+
+    public static PayoutResult rejected(String reason) {
+        return new PayoutResult(false, null, reason);
+    }
+}
@@ -0,0 +1,33 @@
+package co.za.neighborlygigs.payment;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local stand-in for the payout provider. Pays every payout with a worker and a positive amount and
+ * refuses the rest. The reference is derived from the transaction id, so repeating a payout returns
+ * the same answer, as the idempotency contract requires, without keeping any state.
+ */
+@Component
+public class StubPaymentGateway implements PaymentGateway {
+
+    @Override
+    public Map<Long, PayoutResult> payout(List<PayoutRequest> requests) {
+        Map<Long, PayoutResult> results = new HashMap<>(requests.size() * 2);
+        for (PayoutRequest request : requests) {
+            PayoutResult result;
+            if (request.getPayeeId() == null) {
+                result = PayoutResult.rejected("No worker to pay");
+            } else if (request.getAmount() == null || !request.getAmount().isPositive()) {
+                result = PayoutResult.rejected("Nothing to pay");
+            } else {
+                result = PayoutResult.paid("stub-" + request.getTransactionId());
+            }
+            results.put(request.getTransactionId(), result);
+        }
+        return results;
+    }
+}
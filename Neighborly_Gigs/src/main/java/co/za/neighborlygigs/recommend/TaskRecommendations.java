@@ -0,0 +1,309 @@
+package co.za.neighborlygigs.recommend;
+
+import co.za.neighborlygigs.cache.OpenTaskBoardCache;
+import co.za.neighborlygigs.datasource.PrimaryReads;
+import co.za.neighborlygigs.domain.UserCategoryJobs;
+import co.za.neighborlygigs.domain.UserReputation;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.dto.AppliedTask;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.event.ApplicationSubmittedEvent;
+import co.za.neighborlygigs.event.TaskClosedEvent;
+import co.za.neighborlygigs.event.TaskOpenedEvent;
+import co.za.neighborlygigs.geo.GeoPoint;
+import co.za.neighborlygigs.repository.ApplicationRepository;
+import co.za.neighborlygigs.repository.UserCategoryJobsRepository;
+import co.za.neighborlygigs.repository.UserReputationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Personalised "recommended for you" feed per active worker, kept as a precomputed top-N list so the
+ * dashboard serves it with one map read.
+ *
+ * A worker's feed is built on their first visit: three small queries load their profile (completed
+ * jobs per category and usual location from the reputation aggregates, plus their application
+ * history), then the open tasks in the board cache are scored and the best {@code size} kept. The
+ * board cache holds only the newest {@code board-cache.capacity} open tasks (1000 by default, refilled
+ * as tasks close), so older open tasks are never recommended. After
+ * that the feed follows the task events: a new task is scored once per tracked worker and slotted in
+ * if it beats their weakest entry, closed tasks drop out, and applying removes the task and nudges
+ * the worker's category weights. A feed is rebuilt when it has thinned out, when it reaches
+ * {@code max-age-minutes}, or when the worker completes a job. Only the {@code max-workers} most
+ * recently active workers are tracked.
+ */
+@Component
+public class TaskRecommendations {
+    // Best first; equal scores show the newer task first
+    private static final Comparator<Scored> BEST_FIRST = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparing(s -> s.card().getId(), Comparator.reverseOrder());
+
+    private final OpenTaskBoardCache boardCache;
+    private final ApplicationRepository applicationRepository;
+    private final UserCategoryJobsRepository categoryJobsRepository;
+    private final UserReputationRepository reputationRepository;
+    private final int size;
+    private final int maxWorkers;
+    private final long maxAgeMillis;
+
+    private final Map<Long, Feed> feeds = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder builds = new LongAdder();
+
+    public TaskRecommendations(OpenTaskBoardCache boardCache,
+                               ApplicationRepository applicationRepository,
+                               UserCategoryJobsRepository categoryJobsRepository,
+                               UserReputationRepository reputationRepository,
+                               @Value("${neighborlygigs.recommendations.size:50}") int size,
+                               @Value("${neighborlygigs.recommendations.max-workers:10000}") int maxWorkers,
+                               @Value("${neighborlygigs.recommendations.max-age-minutes:360}") long maxAgeMinutes) {
+        this.boardCache = boardCache;
+        this.applicationRepository = applicationRepository;
+        this.categoryJobsRepository = categoryJobsRepository;
+        this.reputationRepository = reputationRepository;
+        this.size = Math.max(1, size);
+        this.maxWorkers = Math.max(1, maxWorkers);
+        this.maxAgeMillis = maxAgeMinutes * 60_000;
+    }
+
+    // The worker's best open tasks, at most min(limit, size)
+    public List<TaskCard> recommend(Long workerId, int limit) {
+        long now = System.currentTimeMillis();
+        Feed feed = feeds.get(workerId);
+        if (feed == null || feed.stale || now - feed.builtAt > maxAgeMillis) {
+            feed = build(workerId, now);
+        } else {
+            if (!feed.built) {
+                // Another request is building it: wait for that instead of serving it empty
+                feed.lock.lock();
+                feed.lock.unlock();
+            }
+            hits.increment();
+        }
+        feed.lastReadAt = now;
+
+        List<Scored> entries = feed.entries;
+        List<TaskCard> cards = new ArrayList<>(Math.min(limit, entries.size()));
+        for (int i = 0; i < entries.size() && cards.size() < limit; i++) {
+            cards.add(entries.get(i).card());
+        }
+        return cards;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskOpened(TaskOpenedEvent event) {
+        TaskCard card = event.getCard();
+        for (Feed feed : feeds.values()) {
+            feed.lock.lock();
+            try {
+                feed.offer(card);
+            } finally {
+                feed.lock.unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskClosed(TaskClosedEvent event) {
+        if (event.getNewStatus() == TaskStatus.COMPLETED && event.getAssignedToId() != null) {
+            // A completed job changes the worker's profile; rebuild on their next visit
+            feeds.remove(event.getAssignedToId());
+        }
+        for (Feed feed : feeds.values()) {
+            feed.lock.lock();
+            try {
+                feed.remove(event.getTaskId());
+            } finally {
+                feed.lock.unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        Feed feed = feeds.get(event.getApplicantId());
+        if (feed != null) {
+            feed.lock.lock();
+            try {
+                if (!feed.built) {
+                    return;
+                }
+                feed.profile.recordApplication(event.getTaskId(), event.getCategory());
+                feed.remove(event.getTaskId());
+            } finally {
+                feed.lock.unlock();
+            }
+        }
+    }
+
+    // Drops a worker's feed; the next read rebuilds it
+    public void invalidate(Long workerId) {
+        feeds.remove(workerId);
+    }
+
+    public Map<String, Object> snapshotStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("workers", feeds.size());
+        stats.put("maxWorkers", maxWorkers);
+        stats.put("hits", hits.sum());
+        stats.put("builds", builds.sum());
+        return stats;
+    }
+
+    private Feed build(Long workerId, long now) {
+        Feed feed = new Feed(now);
+        // Locked and registered before the profile is read, so no event is lost in between: one that
+        // arrives meanwhile waits and then applies, and anything earlier is already in what the build
+        // reads (from the primary, like the board). Queries run under it, so a lock rather than a
+        // monitor: a virtual thread waiting on it does not pin its carrier
+        feed.lock.lock();
+        try {
+            feeds.put(workerId, feed);
+            WorkerProfile profile;
+            try {
+                profile = PrimaryReads.call(() -> loadProfile(workerId));
+            } catch (RuntimeException e) {
+                feeds.remove(workerId, feed);
+                throw e;
+            }
+            feed.profile = profile;
+            List<Scored> scored = new ArrayList<>();
+            for (TaskCard card : boardCache.openCards()) {
+                if (profile.isCandidate(card)) {
+                    scored.add(new Scored(card, profile.score(card)));
+                }
+            }
+            scored.sort(BEST_FIRST);
+            feed.entries = List.copyOf(scored.subList(0, Math.min(size, scored.size())));
+            feed.builtSize = feed.entries.size();
+            feed.built = true;
+        } finally {
+            feed.lock.unlock();
+        }
+        builds.increment();
+        if (feeds.size() > maxWorkers) {
+            evictLeastRecentlyRead();
+        }
+        return feed;
+    }
+
+    private WorkerProfile loadProfile(Long workerId) {
+        long[] weights = WorkerProfile.priorWeights();
+        for (UserCategoryJobs jobs : categoryJobsRepository.findByUserId(workerId)) {
+            weights[jobs.getCategory().ordinal()] += 2 * jobs.getCompletedJobs();
+        }
+
+        Set<Long> applied = new HashSet<>();
+        double latitudeSum = 0;
+        double longitudeSum = 0;
+        int located = 0;
+        for (AppliedTask task : applicationRepository.findAppliedTasks(workerId)) {
+            weights[task.getCategory().ordinal()]++;
+            if (task.getStatus() == TaskStatus.OPEN) {
+                applied.add(task.getTaskId());
+            }
+            if (task.getLatitude() != null && task.getLongitude() != null) {
+                latitudeSum += task.getLatitude();
+                longitudeSum += task.getLongitude();
+                located++;
+            }
+        }
+
+        // Where they have worked, else where they have applied
+        GeoPoint home = null;
+        UserReputation reputation = reputationRepository.findById(workerId).orElse(null);
+        if (reputation != null && reputation.getLocatedJobs() > 0) {
+            home = new GeoPoint(reputation.getLatitudeSum() / reputation.getLocatedJobs(),
+                    reputation.getLongitudeSum() / reputation.getLocatedJobs());
+        } else if (located > 0) {
+            home = new GeoPoint(latitudeSum / located, longitudeSum / located);
+        }
+        return new WorkerProfile(workerId, weights, home, applied);
+    }
+
+    // Trims back to 90% of the limit, so the scan is not repeated for every new worker
+    private void evictLeastRecentlyRead() {
+        // Read times are copied first: they keep moving, and a sort needs stable keys
+        List<long[]> byLastRead = new ArrayList<>(feeds.size());
+        feeds.forEach((workerId, feed) -> byLastRead.add(new long[]{feed.lastReadAt, workerId}));
+        byLastRead.sort(Comparator.comparingLong(e -> e[0]));
+        int excess = byLastRead.size() - maxWorkers * 9 / 10;
+        for (int i = 0; i < excess; i++) {
+            feeds.remove(byLastRead.get(i)[1]);
+        }
+    }
+
+    private record Scored(TaskCard card, double score) {
+    }
+
+    // Writers hold the feed's lock and publish a new immutable list; readers just read the field
+    private final class Feed {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long builtAt;
+        // Set under the lock by build(); events that find a feed whose build failed leave it alone
+        private WorkerProfile profile;
+        private int builtSize;
+        private volatile boolean built;
+        private volatile List<Scored> entries = List.of();
+        private volatile long lastReadAt;
+        private volatile boolean stale;
+
+        private Feed(long builtAt) {
+            this.builtAt = builtAt;
+            this.lastReadAt = builtAt;
+        }
+
+        private void offer(TaskCard card) {
+            if (!built || !profile.isCandidate(card)) {
+                return;
+            }
+            Scored candidate = new Scored(card, profile.score(card));
+            List<Scored> current = entries;
+            if (current.size() == size && BEST_FIRST.compare(candidate, current.get(size - 1)) >= 0) {
+                return;
+            }
+            List<Scored> updated = new ArrayList<>(current.size() + 1);
+            for (Scored entry : current) {
+                if (entry.card().getId().equals(card.getId())) {
+                    return;
+                }
+                updated.add(entry);
+            }
+            int at = 0;
+            while (at < updated.size() && BEST_FIRST.compare(updated.get(at), candidate) < 0) {
+                at++;
+            }
+            updated.add(at, candidate);
+            if (updated.size() > size) {
+                updated.remove(size);
+            }
+            entries = List.copyOf(updated);
+        }
+
+        private void remove(Long taskId) {
+            List<Scored> current = entries;
+            for (int i = 0; i < current.size(); i++) {
+                if (current.get(i).card().getId().equals(taskId)) {
+                    List<Scored> updated = new ArrayList<>(current);
+                    updated.remove(i);
+                    entries = List.copyOf(updated);
+                    // Nothing below the top N was kept, so a thinned-out feed is rebuilt rather than refilled
+                    stale = updated.size() < builtSize / 2;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package co.za.neighborlygigs.recommend;
+
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.geo.GeoPoint;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * What a worker's history says they are likely to take: a weight per category (completed jobs count
+ * double, applications once, and every category starts at one so a new worker is not locked out of
+ * any), where they usually work, and the open tasks they have already applied to.
+ *
+ * Not thread-safe: {@link TaskRecommendations} only touches a profile while holding its feed's lock.
+ */
+class WorkerProfile {
+    private static final double AFFINITY_WEIGHT = 0.6;
+    private static final double DISTANCE_WEIGHT = 0.4;
+    // Distance at which the location score halves
+    private static final double DISTANCE_KM_HALF = 10;
+    private static final double NEUTRAL = 0.5;
+
+    private final Long workerId;
+    private final long[] categoryWeights;
+    private final GeoPoint home;
+    private final Set<Long> appliedTaskIds;
+    private long maxWeight;
+
+    WorkerProfile(Long workerId, long[] categoryWeights, GeoPoint home, Set<Long> appliedTaskIds) {
+        this.workerId = workerId;
+        this.categoryWeights = categoryWeights;
+        this.home = home;
+        this.appliedTaskIds = appliedTaskIds;
+        this.maxWeight = Arrays.stream(categoryWeights).max().orElse(1);
+    }
+
+    static long[] priorWeights() {
+        long[] weights = new long[TaskCategory.values().length];
+        Arrays.fill(weights, 1);
+        return weights;
+    }
+
+    // Their own tasks and ones they already applied to are never recommended
+    boolean isCandidate(TaskCard card) {
+        return !workerId.equals(card.getPosterId()) && !appliedTaskIds.contains(card.getId());
+    }
+
+    double score(TaskCard card) {
+        double affinity = (double) categoryWeights[card.getCategory().ordinal()] / maxWeight;
+        double location = NEUTRAL;
+        if (home != null && card.hasLocation()) {
+            double km = home.distanceKmTo(card.getLatitude(), card.getLongitude());
+            location = DISTANCE_KM_HALF / (km + DISTANCE_KM_HALF);
+        }
+        return AFFINITY_WEIGHT * affinity + DISTANCE_WEIGHT * location;
+    }
+
+    void recordApplication(Long taskId, TaskCategory category) {
+        appliedTaskIds.add(taskId);
+        maxWeight = Math.max(maxWeight, ++categoryWeights[category.ordinal()]);
+    }
+}
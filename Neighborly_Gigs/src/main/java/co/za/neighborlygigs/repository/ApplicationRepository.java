@@ -4,7 +4,10 @@ import co.za.neighborlygigs.domain.Application;
 import co.za.neighborlygigs.domain.enums.ApplicationStatus;
 import co.za.neighborlygigs.domain.Task;
 import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.dto.AppliedTask;
+import co.za.neighborlygigs.dto.RankedApplicant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -17,4 +20,22 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     // Count pending applications for a task
     long countByTask_IdAndStatus(Long taskId, ApplicationStatus status);
+
+    // Every application for a task with its applicant's feature vector, in one round trip: reputation and
+    // per-category jobs are joined by key, so nothing is aggregated or lazy-loaded per applicant
+    @Query("SELECT new co.za.neighborlygigs.dto.RankedApplicant(a.id, u.id, u.firstName, u.lastName, " +
+            "u.profilePictureUrl, a.message, a.status, a.appliedAt, " +
+            "COALESCE(r.ratingSum, 0), COALESCE(r.ratingCount, 0), COALESCE(r.completedJobs, 0), " +
+            "COALESCE(c.completedJobs, 0), COALESCE(r.responseMinutesSum, 0), COALESCE(r.responseCount, 0), " +
+            "COALESCE(r.latitudeSum, 0.0), COALESCE(r.longitudeSum, 0.0), COALESCE(r.locatedJobs, 0)) " +
+            "FROM Application a JOIN a.task t JOIN a.applicant u " +
+            "LEFT JOIN UserReputation r ON r.userId = u.id " +
+            "LEFT JOIN UserCategoryJobs c ON c.userId = u.id AND c.category = t.category " +
+            "WHERE t.id = :taskId")
+    List<RankedApplicant> findRankingCandidates(Long taskId);
+
+    // A worker's application history without loading Application or Task entities
+    @Query("SELECT new co.za.neighborlygigs.dto.AppliedTask(t.id, t.category, t.status, t.latitude, t.longitude) " +
+            "FROM Application a JOIN a.task t WHERE a.applicant.id = :applicantId")
+    List<AppliedTask> findAppliedTasks(Long applicantId);
 }
@@ -0,0 +1,36 @@
+package co.za.neighborlygigs.repository;
+
+import co.za.neighborlygigs.domain.OutboxEmail;
+import co.za.neighborlygigs.domain.enums.EmailStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+    // Oldest due emails first (served by idx_outbox_status_next_attempt)
+    List<OutboxEmail> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(EmailStatus status, LocalDateTime now, Limit limit);
+
+    long countByStatus(EmailStatus status);
+
+    // Moves the rows still PENDING to SENDING under one claim; a row another run claimed first is skipped
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.status = :sending, e.claimedBy = :claim, e.claimedAt = :now " +
+            "WHERE e.id IN :ids AND e.status = :pending")
+    int claim(List<Long> ids, String claim, LocalDateTime now, EmailStatus pending, EmailStatus sending);
+
+    List<OutboxEmail> findByClaimedByOrderByIdAsc(String claim);
+
+    // Hands back rows whose run died between claiming and saving the outcome; they are sent again
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.status = :pending WHERE e.status = :sending AND e.claimedAt < :claimedBefore")
+    int releaseClaims(LocalDateTime claimedBefore, EmailStatus sending, EmailStatus pending);
+}
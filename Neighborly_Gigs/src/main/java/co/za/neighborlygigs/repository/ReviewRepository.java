@@ -2,6 +2,7 @@ package co.za.neighborlygigs.repository;
 
 import co.za.neighborlygigs.domain.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -11,4 +12,8 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByReviewee_Id(Long userId);
     boolean existsByTask_IdAndReviewer_IdAndReviewee_Id(Long taskId, Long reviewerId, Long revieweeId);
 
+    // Platform-wide rating total (average = sum / count)
+    @Query("SELECT COALESCE(SUM(r.rating), 0) FROM Review r")
+    long sumRatings();
+
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package co.za.neighborlygigs.repository;
 import co.za.neighborlygigs.domain.Task;
 import co.za.neighborlygigs.domain.enums.TaskStatus;
 import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.dto.TaskCard;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -14,10 +16,23 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByPoster_Id(Long userId);
     List<Task> findByAssignedTo_Id(Long userId);
     List<Task> findByStatus(TaskStatus status);
+    long countByStatus(TaskStatus status);
 
     // Open tasks (for job board)
     List<Task> findByStatusOrderByIdDesc(TaskStatus status);
 
+    // Keyset pages of job board cards (for "load more"), served by idx_task_status_id.
+    // Poster names come from the join, so rendering a page is exactly one statement.
+    @Query("SELECT new co.za.neighborlygigs.dto.TaskCard(t.id, t.title, t.description, t.category, t.budget, " +
+            "t.address, t.requirements, t.latitude, t.longitude, t.createdAt, p.id, p.firstName, p.lastName) " +
+            "FROM Task t JOIN t.poster p WHERE t.status = :status ORDER BY t.id DESC")
+    List<TaskCard> findCardsByStatus(TaskStatus status, Limit limit);
+
+    @Query("SELECT new co.za.neighborlygigs.dto.TaskCard(t.id, t.title, t.description, t.category, t.budget, " +
+            "t.address, t.requirements, t.latitude, t.longitude, t.createdAt, p.id, p.firstName, p.lastName) " +
+            "FROM Task t JOIN t.poster p WHERE t.status = :status AND t.id < :beforeId ORDER BY t.id DESC")
+    List<TaskCard> findCardsByStatusBefore(TaskStatus status, Long beforeId, Limit limit);
+
     // Tasks assigned to a user that are completed
     List<Task> findByAssignedTo_IdAndStatus(Long userId, TaskStatus status);
 
@@ -1,12 +1,54 @@
 package co.za.neighborlygigs.repository;
 
 import co.za.neighborlygigs.domain.Transaction;
+import co.za.neighborlygigs.domain.enums.TransactionStatus;
+import co.za.neighborlygigs.dto.TransactionExportRow;
+import co.za.neighborlygigs.payment.PayoutRequest;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+    // Rows per round trip when streaming the finance export
+    int EXPORT_FETCH_SIZE = 500;
+
     Optional<Transaction> findByTask_Id(Long taskId);
-}
 
+    // Workers who have been paid for at least one completed task
+    @Query("SELECT DISTINCT t.task.assignedTo.id FROM Transaction t WHERE t.task.assignedTo IS NOT NULL")
+    List<Long> findDistinctCompleterIds();
+
+    // Keyset chunks of payouts in id order (served by idx_transaction_status_id); the worker id is the
+    // task's foreign key, so no user row is read
+    @Query("SELECT new co.za.neighborlygigs.payment.PayoutRequest(t.id, w.id, t.payoutToCompleter) " +
+            "FROM Transaction t JOIN t.task k LEFT JOIN k.assignedTo w " +
+            "WHERE t.status = :status AND t.id > :afterId ORDER BY t.id")
+    List<PayoutRequest> findPayoutsAfter(TransactionStatus status, Long afterId, Limit limit);
+
+    List<Transaction> findByIdInAndStatus(Collection<Long> ids, TransactionStatus status);
+
+    long countByStatus(TransactionStatus status);
+
+    // Finance export for [from, to) in creation order (served by idx_transaction_created_at). Streamed
+    // through a forward-only scroll, so it must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new co.za.neighborlygigs.dto.TransactionExportRow(t.id, t.createdAt, t.settledAt, t.status, " +
+            "t.totalAmount, t.platformFee, t.payoutToCompleter, t.payfastPaymentId, k.id, k.title, " +
+            "w.id, w.firstName, w.lastName, w.email) " +
+            "FROM Transaction t JOIN t.task k LEFT JOIN k.assignedTo w " +
+            "WHERE t.createdAt >= :from AND t.createdAt < :to ORDER BY t.createdAt, t.id")
+    Stream<TransactionExportRow> streamExportRows(LocalDateTime from, LocalDateTime to);
+}
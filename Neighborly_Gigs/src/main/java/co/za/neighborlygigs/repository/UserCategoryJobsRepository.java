@@ -0,0 +1,39 @@
+package co.za.neighborlygigs.repository;
+
+import co.za.neighborlygigs.domain.UserCategoryJobs;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserCategoryJobsRepository extends JpaRepository<UserCategoryJobs, UserCategoryJobs.Key> {
+
+    List<UserCategoryJobs> findByUserId(Long userId);
+
+    @Modifying
+    @Query("UPDATE UserCategoryJobs c SET c.completedJobs = c.completedJobs + 1 " +
+            "WHERE c.userId = :userId AND c.category = :category")
+    int addCompletedJob(Long userId, TaskCategory category);
+
+    // Creates the zero row unless it exists, like UserReputationRepository.insertIfMissing; category is the enum name
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_category_jobs (user_id, category, completed_jobs) " +
+            "VALUES (:userId, :category, 0)", nativeQuery = true)
+    int insertIfMissing(Long userId, String category);
+
+    @Modifying
+    @Query("DELETE FROM UserCategoryJobs c")
+    int deleteAllRows();
+
+    // Rebuilds every row from the task table in a single statement
+    @Modifying
+    @Query("INSERT INTO UserCategoryJobs (userId, category, completedJobs) " +
+            "SELECT t.assignedTo.id, t.category, COUNT(t) FROM Task t " +
+            "WHERE t.status = :completed AND t.assignedTo IS NOT NULL GROUP BY t.assignedTo.id, t.category")
+    int insertFromTasks(TaskStatus completed);
+}
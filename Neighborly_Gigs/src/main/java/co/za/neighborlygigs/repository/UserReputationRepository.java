@@ -0,0 +1,77 @@
+package co.za.neighborlygigs.repository;
+
+import co.za.neighborlygigs.domain.UserReputation;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserReputationRepository extends JpaRepository<UserReputation, Long> {
+
+    // In-place increments: concurrent reviews for the same user cannot lose updates
+    @Modifying
+    @Query("UPDATE UserReputation u SET u.ratingSum = u.ratingSum + :rating, u.ratingCount = u.ratingCount + 1, " +
+            "u.oneStar = u.oneStar + (CASE WHEN :rating = 1 THEN 1 ELSE 0 END), " +
+            "u.twoStar = u.twoStar + (CASE WHEN :rating = 2 THEN 1 ELSE 0 END), " +
+            "u.threeStar = u.threeStar + (CASE WHEN :rating = 3 THEN 1 ELSE 0 END), " +
+            "u.fourStar = u.fourStar + (CASE WHEN :rating = 4 THEN 1 ELSE 0 END), " +
+            "u.fiveStar = u.fiveStar + (CASE WHEN :rating = 5 THEN 1 ELSE 0 END), " +
+            "u.updatedAt = CURRENT_TIMESTAMP WHERE u.userId = :userId")
+    int addRating(Long userId, int rating);
+
+    // located is 1 when the job had coordinates, 0 otherwise (then latitude and longitude are 0 too)
+    @Modifying
+    @Query("UPDATE UserReputation u SET u.completedJobs = u.completedJobs + 1, " +
+            "u.latitudeSum = u.latitudeSum + :latitude, u.longitudeSum = u.longitudeSum + :longitude, " +
+            "u.locatedJobs = u.locatedJobs + :located, u.updatedAt = CURRENT_TIMESTAMP WHERE u.userId = :userId")
+    int addCompletedJob(Long userId, double latitude, double longitude, int located);
+
+    // Creates the all-zero row unless it exists; concurrent first activities for a user both succeed,
+    // the loser's insert is skipped instead of failing its transaction on the primary key
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_reputation (user_id, rating_sum, rating_count, one_star, two_star, " +
+            "three_star, four_star, five_star, completed_jobs, latitude_sum, longitude_sum, located_jobs, " +
+            "response_minutes_sum, response_count, updated_at) " +
+            "VALUES (:userId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertIfMissing(Long userId);
+
+    // Users with reviews or completed jobs but no aggregate row yet
+    @Query("SELECT DISTINCT r.reviewee.id FROM Review r " +
+            "WHERE NOT EXISTS (SELECT 1 FROM UserReputation u WHERE u.userId = r.reviewee.id)")
+    List<Long> findReviewedUsersWithoutReputation();
+
+    @Query("SELECT DISTINCT t.assignedTo.id FROM Task t WHERE t.status = :status AND t.assignedTo IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM UserReputation u WHERE u.userId = t.assignedTo.id)")
+    List<Long> findWorkersWithoutReputation(TaskStatus status);
+
+    @Query("SELECT DISTINCT a.applicant.id FROM Application a " +
+            "WHERE NOT EXISTS (SELECT 1 FROM UserReputation u WHERE u.userId = a.applicant.id)")
+    List<Long> findApplicantsWithoutReputation();
+
+    // Recomputes every aggregate from the source tables in a single statement
+    @Modifying
+    @Query("UPDATE UserReputation u SET " +
+            "u.ratingSum = (SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.reviewee.id = u.userId), " +
+            "u.ratingCount = (SELECT COUNT(r) FROM Review r WHERE r.reviewee.id = u.userId), " +
+            "u.oneStar = (SELECT COUNT(r) FROM Review r WHERE r.reviewee.id = u.userId AND r.rating = 1), " +
+            "u.twoStar = (SELECT COUNT(r) FROM Review r WHERE r.reviewee.id = u.userId AND r.rating = 2), " +
+            "u.threeStar = (SELECT COUNT(r) FROM Review r WHERE r.reviewee.id = u.userId AND r.rating = 3), " +
+            "u.fourStar = (SELECT COUNT(r) FROM Review r WHERE r.reviewee.id = u.userId AND r.rating = 4), " +
+            "u.fiveStar = (SELECT COUNT(r) FROM Review r WHERE r.reviewee.id = u.userId AND r.rating = 5), " +
+            "u.completedJobs = (SELECT COUNT(t) FROM Task t WHERE t.assignedTo.id = u.userId AND t.status = :completed), " +
+            "u.latitudeSum = (SELECT COALESCE(SUM(t.latitude), 0) FROM Task t WHERE t.assignedTo.id = u.userId " +
+            "AND t.status = :completed AND t.latitude IS NOT NULL AND t.longitude IS NOT NULL), " +
+            "u.longitudeSum = (SELECT COALESCE(SUM(t.longitude), 0) FROM Task t WHERE t.assignedTo.id = u.userId " +
+            "AND t.status = :completed AND t.latitude IS NOT NULL AND t.longitude IS NOT NULL), " +
+            "u.locatedJobs = (SELECT COUNT(t) FROM Task t WHERE t.assignedTo.id = u.userId " +
+            "AND t.status = :completed AND t.latitude IS NOT NULL AND t.longitude IS NOT NULL), " +
+            "u.responseMinutesSum = (SELECT COALESCE(SUM((a.appliedAt - k.createdAt) by minute), 0) " +
+            "FROM Application a JOIN a.task k WHERE a.applicant.id = u.userId), " +
+            "u.responseCount = (SELECT COUNT(a) FROM Application a WHERE a.applicant.id = u.userId), " +
+            "u.updatedAt = CURRENT_TIMESTAMP")
+    int recomputeAll(TaskStatus completed);
+}
@@ -0,0 +1,230 @@
+package co.za.neighborlygigs.search;
+
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.event.TaskClosedEvent;
+import co.za.neighborlygigs.event.TaskOpenedEvent;
+import co.za.neighborlygigs.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process inverted index over the title, description and requirements of OPEN tasks.
+ *
+ * Terms live in a sorted map so the last query word can be matched as a prefix (search-as-you-type).
+ * Results are ranked by a field-weighted TF-IDF score; every query word must match (AND semantics).
+ * The index is built once at startup and then kept current from task lifecycle events.
+ */
+@Component
+public class TaskSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    // A hit in the title says more about a task than a hit somewhere in its description
+    private static final int TITLE_WEIGHT = 3;
+    private static final int REQUIREMENTS_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "me", "my", "of", "on", "or", "the", "to", "with", "we", "our", "you", "your"
+    );
+
+    private final TaskRepository taskRepository;
+
+    // term -> (task id -> weighted term frequency)
+    private final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, IndexedTask> documents = new ConcurrentHashMap<>();
+
+    public TaskSearchIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        postings.clear();
+        documents.clear();
+        List<TaskCard> openTasks = taskRepository.findCardsByStatus(TaskStatus.OPEN, Limit.unlimited());
+        for (TaskCard card : openTasks) {
+            add(card);
+        }
+        logger.info("Indexed {} open tasks ({} terms) for search", documents.size(), postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskOpened(TaskOpenedEvent event) {
+        add(event.getCard());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskClosed(TaskClosedEvent event) {
+        remove(event.getTaskId());
+    }
+
+    public List<TaskCard> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Double> scores = null;
+        for (int i = 0; i < queryTerms.size(); i++) {
+            boolean lastTerm = i == queryTerms.size() - 1;
+            Map<Long, Double> termScores = scoreTerm(queryTerms.get(i), lastTerm);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                // AND semantics: keep only tasks that matched every earlier word as well
+                Map<Long, Double> merged = new HashMap<>();
+                for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                    Double extra = termScores.get(entry.getKey());
+                    if (extra != null) {
+                        merged.put(entry.getKey(), entry.getValue() + extra);
+                    }
+                }
+                scores = merged;
+            }
+            if (scores.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+
+        List<TaskCard> results = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Map.Entry<Long, Double> entry : ranked) {
+            if (results.size() == limit) {
+                break;
+            }
+            IndexedTask doc = documents.get(entry.getKey());
+            if (doc != null) {
+                results.add(doc.card);
+            }
+        }
+        return results;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // Exact matches score full TF-IDF; the last word also matches longer terms it is a prefix of
+    private Map<Long, Double> scoreTerm(String term, boolean allowPrefix) {
+        Map<Long, Double> termScores = new HashMap<>();
+        int totalDocs = Math.max(1, documents.size());
+
+        Map<String, Map<Long, Integer>> matches = allowPrefix
+                ? postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                : exactOnly(term);
+
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Integer>> match : matches.entrySet()) {
+            if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            Map<Long, Integer> docs = match.getValue();
+            double idf = Math.log(1.0 + (double) totalDocs / Math.max(1, docs.size()));
+            double factor = match.getKey().equals(term) ? 1.0 : PREFIX_MATCH_FACTOR;
+            for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+                double score = posting.getValue() * idf * factor;
+                // A task can match several expansions of the prefix; keep its best one
+                termScores.merge(posting.getKey(), score, Math::max);
+            }
+        }
+        return termScores;
+    }
+
+    private Map<String, Map<Long, Integer>> exactOnly(String term) {
+        Map<Long, Integer> docs = postings.get(term);
+        return docs == null ? Collections.emptyMap() : Map.of(term, docs);
+    }
+
+    private void add(TaskCard card) {
+        if (documents.containsKey(card.getId())) {
+            remove(card.getId());
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        countTerms(card.getTitle(), TITLE_WEIGHT, frequencies);
+        countTerms(card.getRequirements(), REQUIREMENTS_WEIGHT, frequencies);
+        countTerms(card.getDescription(), DESCRIPTION_WEIGHT, frequencies);
+
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new ConcurrentHashMap<>())
+                    .put(card.getId(), entry.getValue());
+        }
+        documents.put(card.getId(), new IndexedTask(card, frequencies.keySet()));
+    }
+
+    private void remove(Long taskId) {
+        IndexedTask doc = documents.remove(taskId);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.terms) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(taskId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void countTerms(String text, int weight, Map<String, Integer> frequencies) {
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    // Lower-cases and splits on anything that is not a letter or digit, dropping stop words
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = text.substring(start, i).toLowerCase();
+                if (token.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static class IndexedTask {
+        private final TaskCard card;
+        private final Set<String> terms;
+
+        private IndexedTask(TaskCard card, Set<String> terms) {
+            this.card = card;
+            this.terms = terms;
+        }
+    }
+}
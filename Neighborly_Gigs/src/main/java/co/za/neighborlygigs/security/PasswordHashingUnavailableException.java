@@ -0,0 +1,10 @@
+package co.za.neighborlygigs.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// Hashing pool is saturated; login fails like any other auth error instead of a 500
+public class PasswordHashingUnavailableException extends AuthenticationServiceException {
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,20 +1,24 @@
 package co.za.neighborlygigs.security;
 
+import co.za.neighborlygigs.cache.UserLookup;
 import co.za.neighborlygigs.domain.User;
 import co.za.neighborlygigs.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserLookup userLookup;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, UserLookup userLookup) {
         this.userRepository = userRepository;
+        this.userLookup = userLookup;
     }
 
     @Override
@@ -24,4 +28,15 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         return CustomUserDetails.create(user);
     }
-}
\ No newline at end of file
+
+    // Called by DaoAuthenticationProvider with a fresh hash after a login on an outdated BCrypt cost
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userLookup.invalidate(user.getId());
+        return CustomUserDetails.create(user);
+    }
+}
@@ -0,0 +1,9 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.dto.ApplicantPage;
+
+public interface ApplicantRankingService {
+    // Applicants for a task, best match first; one query however many applied
+    ApplicantPage rankApplicants(Task task, int page, int size);
+}
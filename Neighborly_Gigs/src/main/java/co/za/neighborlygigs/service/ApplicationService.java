@@ -4,5 +4,5 @@ import co.za.neighborlygigs.domain.Application;
 import co.za.neighborlygigs.domain.User;
 
 public interface ApplicationService {
-    Application applyToTask(Long taskId, String applicantEmail, String message);
+    Application applyToTask(Long taskId, Long applicantId, String message);
 }
@@ -1,16 +1,18 @@
 package co.za.neighborlygigs.service;
 
+import co.za.neighborlygigs.cache.UserLookup;
 import co.za.neighborlygigs.domain.*;
 import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.event.ApplicationSubmittedEvent;
 import co.za.neighborlygigs.factory.ApplicationFactory;
 import co.za.neighborlygigs.factory.NotificationFactory;
 import co.za.neighborlygigs.repository.ApplicationRepository;
 import co.za.neighborlygigs.repository.TaskRepository;
-import co.za.neighborlygigs.repository.UserRepository;
-import co.za.neighborlygigs.repository.NotificationRepository;
-import jakarta.mail.MessagingException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,47 +20,58 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class ApplicationServiceImpl implements ApplicationService {
     private static final Logger logger = LoggerFactory.getLogger(ApplicationServiceImpl.class);
+    // ER_DUP_ENTRY; H2 (tests) reports the standard SQLState instead of MySQL's generic 23000
+    private static final int MYSQL_DUPLICATE_KEY = 1062;
+    private static final String H2_DUPLICATE_KEY = "23505";
 
     private final TaskRepository taskRepository;
     private final ApplicationRepository applicationRepository;
-    private final UserRepository userRepository;
-    private final NotificationRepository notificationRepository;
+    private final UserLookup userLookup;
+    private final NotificationService notificationService;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ApplicationServiceImpl(TaskRepository taskRepository,
                                   ApplicationRepository applicationRepository,
-                                  UserRepository userRepository,
-                                  NotificationRepository notificationRepository, EmailService emailService) {
+                                  UserLookup userLookup,
+                                  NotificationService notificationService, EmailService emailService,
+                                  ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
         this.applicationRepository = applicationRepository;
-        this.userRepository = userRepository;
-        this.notificationRepository = notificationRepository;
+        this.userLookup = userLookup;
+        this.notificationService = notificationService;
         this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public Application applyToTask(Long taskId, String applicantEmail, String message) {
+    public Application applyToTask(Long taskId, Long applicantId, String message) {
         //  Validate task is OPEN
         Task task = taskRepository.findByIdAndStatus(taskId, TaskStatus.OPEN)
                 .orElseThrow(() -> new RuntimeException("Open task not found"));
 
-        // Get applicant by email
-        User applicant = userRepository.findByEmail(applicantEmail)
+        // Get applicant by id
+        User applicant = userLookup.findById(applicantId)
                 .orElseThrow(() -> new RuntimeException("Applicant not found"));
 
         // Prevent applying to own task
-        if (task.getPoster().getEmail().equals(applicantEmail)) {
+        if (task.getPoster().getId().equals(applicantId)) {
             throw new RuntimeException("You cannot apply to your own task");
         }
 
-        // Prevent duplicate applications
-        if (applicationRepository.findByTask_IdAndApplicant_Id(taskId, applicant.getId()).isPresent()) {
-            throw new RuntimeException("You have already applied to this task");
-        }
-
-        // Create application
+        // Create application. Duplicates are caught by the unique constraint at insert time rather than
+        // by a SELECT first, which costs a round trip and still lets two concurrent requests through.
         Application application = ApplicationFactory.createApplication(task, applicant, message);
-        Application savedApp = applicationRepository.save(application);
+        Application savedApp;
+        try {
+            savedApp = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateApplication(e)) {
+                throw new RuntimeException("You have already applied to this task");
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(new ApplicationSubmittedEvent(applicantId, taskId, task.getCategory()));
 
         // Notify task poster
         String applicantName = applicant.getFirstName() + " " + applicant.getLastName();
@@ -67,14 +80,22 @@ public class ApplicationServiceImpl implements ApplicationService {
                 applicantName,
                 task.getTitle()
         );
-        notificationRepository.save(notification);
+        notificationService.send(notification);
 
-        // Send email to poster — safely handle exception
-        try {
-            emailService.sendTaskApplicationEmail(task.getPoster(), applicant, task.getTitle());
-        } catch (MessagingException e) {
-            logger.warn("Failed to send application email to {}: {}", task.getPoster().getEmail(), e.getMessage());
-        }
+        // Queue email to poster (delivered after commit by the outbox dispatcher)
+        emailService.sendTaskApplicationEmail(task.getPoster(), applicant, task.getTitle());
         return savedApp;
     }
-}
\ No newline at end of file
+
+    // A duplicate key on anything but the primary key. Matched by error code rather than by constraint
+    // name: databases created before the constraint was named still enforce it under a generated one.
+    private static boolean isDuplicateApplication(DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException violation)) {
+            return false;
+        }
+        boolean duplicateKey = violation.getErrorCode() == MYSQL_DUPLICATE_KEY
+                || H2_DUPLICATE_KEY.equals(violation.getSQLState());
+        String name = violation.getConstraintName();
+        return duplicateKey && (name == null || !name.toLowerCase().contains("primary"));
+    }
+}
@@ -0,0 +1,228 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.datasource.PrimaryReads;
+import co.za.neighborlygigs.domain.OutboxEmail;
+import co.za.neighborlygigs.domain.enums.EmailStatus;
+import co.za.neighborlygigs.metrics.LatencyHistogram;
+import co.za.neighborlygigs.repository.OutboxEmailRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the email outbox in the background.
+ *
+ * Each run picks up to {@code batch-size} due emails and hands them to the mail sender in one call,
+ * so the whole batch shares a single SMTP connection. Failed emails are retried with exponential
+ * backoff and marked FAILED after {@code max-attempts}. No DB transaction is held open while SMTP runs.
+ *
+ * A run first claims its batch, moving the rows from PENDING to SENDING in one update that skips rows
+ * another run got to first, so overlapping runs or instances never send the same email. A run that
+ * dies after sending but before saving the outcome leaves its rows SENDING; they return to PENDING
+ * after {@code claim-timeout-seconds} and are sent again, so delivery is at least once. The timeout
+ * must comfortably exceed the SMTP time of one batch.
+ */
+@Component
+public class EmailOutboxDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+    private static final String FROM_ADDRESS = "no-reply@neighborlygigs.co.za";
+
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffBaseSeconds;
+    private final long backoffMaxSeconds;
+    private final long claimTimeoutSeconds;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong totalSendMillis = new AtomicLong();
+    private volatile long lastBatchMillis;
+    // SMTP time per batch, and how long each email sat in the outbox before it went out
+    private final LatencyHistogram sendLatency = new LatencyHistogram();
+    private final LatencyHistogram deliveryDelay = new LatencyHistogram();
+
+    public EmailOutboxDispatcher(OutboxEmailRepository outboxEmailRepository,
+                                 JavaMailSender mailSender,
+                                 @Value("${neighborlygigs.outbox.batch-size:50}") int batchSize,
+                                 @Value("${neighborlygigs.outbox.max-attempts:6}") int maxAttempts,
+                                 @Value("${neighborlygigs.outbox.backoff-base-seconds:30}") long backoffBaseSeconds,
+                                 @Value("${neighborlygigs.outbox.backoff-max-seconds:3600}") long backoffMaxSeconds,
+                                 @Value("${neighborlygigs.outbox.claim-timeout-seconds:600}") long claimTimeoutSeconds) {
+        this.outboxEmailRepository = outboxEmailRepository;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseSeconds = backoffBaseSeconds;
+        this.backoffMaxSeconds = backoffMaxSeconds;
+        this.claimTimeoutSeconds = claimTimeoutSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${neighborlygigs.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        int released = outboxEmailRepository.releaseClaims(
+                LocalDateTime.now().minusSeconds(claimTimeoutSeconds), EmailStatus.SENDING, EmailStatus.PENDING);
+        if (released > 0) {
+            logger.warn("Re-queued {} outbox emails left SENDING by an interrupted run", released);
+        }
+        List<OutboxEmail> due;
+        // Keep draining while full batches come back, so a backlog clears without waiting a poll interval each
+        do {
+            // From the primary: a lagging replica would keep offering rows that are already claimed
+            due = PrimaryReads.call(() -> outboxEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                    EmailStatus.PENDING, LocalDateTime.now(), Limit.of(batchSize)));
+            List<OutboxEmail> batch = claim(due);
+            if (!batch.isEmpty()) {
+                sendBatch(batch);
+            }
+        } while (due.size() == batchSize);
+    }
+
+    // Only the rows this run moved to SENDING come back
+    private List<OutboxEmail> claim(List<OutboxEmail> due) {
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        String claim = UUID.randomUUID().toString();
+        List<Long> ids = due.stream().map(OutboxEmail::getId).toList();
+        if (outboxEmailRepository.claim(ids, claim, LocalDateTime.now(), EmailStatus.PENDING, EmailStatus.SENDING) == 0) {
+            return List.of();
+        }
+        return PrimaryReads.call(() -> outboxEmailRepository.findByClaimedByOrderByIdAsc(claim));
+    }
+
+    private void sendBatch(List<OutboxEmail> batch) {
+        long start = System.currentTimeMillis();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        Map<MimeMessage, OutboxEmail> byMessage = new HashMap<>();
+
+        for (OutboxEmail email : batch) {
+            try {
+                MimeMessage message = compose(email);
+                messages.add(message);
+                byMessage.put(message, email);
+            } catch (MessagingException e) {
+                // A message we cannot even build will never succeed
+                markFailed(email, e.getMessage());
+            }
+        }
+
+        Map<Object, Exception> failures = new HashMap<>();
+        if (messages.isEmpty()) {
+            outboxEmailRepository.saveAll(batch);
+            return;
+        }
+        long sendStart = System.nanoTime();
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures.putAll(e.getFailedMessages());
+            if (failures.isEmpty()) {
+                // Connection-level failure: nothing in the batch went out
+                messages.forEach(m -> failures.put(m, e));
+            }
+        } catch (MailException e) {
+            messages.forEach(m -> failures.put(m, e));
+        }
+        sendLatency.record(System.nanoTime() - sendStart);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (MimeMessage message : messages) {
+            OutboxEmail email = byMessage.get(message);
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                email.setStatus(EmailStatus.SENT);
+                email.setSentAt(now);
+                email.setAttempts(email.getAttempts() + 1);
+                sentCount.incrementAndGet();
+                deliveryDelay.record(Duration.between(email.getCreatedAt(), now).toNanos());
+            } else {
+                scheduleRetry(email, failure.getMessage(), now);
+            }
+        }
+        outboxEmailRepository.saveAll(batch);
+
+        lastBatchMillis = System.currentTimeMillis() - start;
+        totalSendMillis.addAndGet(lastBatchMillis);
+        batchCount.incrementAndGet();
+        logger.debug("Outbox batch: {} emails, {} failed, {} ms", batch.size(), failures.size(), lastBatchMillis);
+    }
+
+    private MimeMessage compose(OutboxEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), email.isHtml());
+        helper.setFrom(FROM_ADDRESS);
+        return message;
+    }
+
+    private void scheduleRetry(OutboxEmail email, String error, LocalDateTime now) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(truncate(error));
+        if (attempts >= maxAttempts) {
+            email.setStatus(EmailStatus.FAILED);
+            failedCount.incrementAndGet();
+            logger.warn("Giving up on email {} to {} after {} attempts: {}", email.getId(), email.getRecipient(), attempts, error);
+            return;
+        }
+        // 30s, 60s, 120s, ... capped
+        long delay = Math.min(backoffBaseSeconds << Math.min(attempts - 1, 20), backoffMaxSeconds);
+        email.setStatus(EmailStatus.PENDING);
+        email.setNextAttemptAt(now.plusSeconds(delay));
+        retriedCount.incrementAndGet();
+    }
+
+    private void markFailed(OutboxEmail email, String error) {
+        email.setAttempts(email.getAttempts() + 1);
+        email.setStatus(EmailStatus.FAILED);
+        email.setLastError(truncate(error));
+        failedCount.incrementAndGet();
+        logger.warn("Email {} to {} could not be composed: {}", email.getId(), email.getRecipient(), error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 255 ? error.substring(0, 255) : error;
+    }
+
+    public Map<String, Object> snapshotStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long batches = batchCount.get();
+        stats.put("sent", sentCount.get());
+        stats.put("retried", retriedCount.get());
+        stats.put("failed", failedCount.get());
+        stats.put("batches", batches);
+        stats.put("avgBatchMillis", batches == 0 ? 0 : totalSendMillis.get() / batches);
+        stats.put("lastBatchMillis", lastBatchMillis);
+        stats.put("pending", outboxEmailRepository.countByStatus(EmailStatus.PENDING));
+        stats.put("sendLatency", sendLatency.snapshot());
+        stats.put("deliveryDelay", deliveryDelay.snapshot());
+        return stats;
+    }
+}
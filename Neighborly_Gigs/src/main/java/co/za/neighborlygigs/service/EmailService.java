@@ -1,22 +1,35 @@
 package co.za.neighborlygigs.service;
 
+import co.za.neighborlygigs.domain.OutboxEmail;
 import co.za.neighborlygigs.domain.User;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import co.za.neighborlygigs.repository.OutboxEmailRepository;
 import org.springframework.stereotype.Service;
 
+/**
+ * Composes transactional emails and writes them to the outbox in the caller's transaction.
+ * Nothing here talks to SMTP: EmailOutboxDispatcher delivers committed rows in the background,
+ * so a slow mail server never holds a request thread or DB connection.
+ */
 @Service
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final OutboxEmailRepository outboxEmailRepository;
 
-    public EmailService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailService(OutboxEmailRepository outboxEmailRepository) {
+        this.outboxEmailRepository = outboxEmailRepository;
     }
 
-    public void sendTaskApplicationEmail(User taskPoster, User applicant, String taskTitle) throws MessagingException {
+    public void sendWelcomeEmail(String to) {
+        String html = "<h2>Hello!</h2>" +
+                "<p>Your Neighborly Gigs account has been created successfully.</p>" +
+                "<p>Please click the link below to login</p>" +
+                "<a href='http://localhost:8080/login" + "' " +
+                "style='background-color: #49c1f0; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;'>" +
+                "Login</a>";
+        enqueue(to, "Welcome to Neighborly Gigs!", html, true);
+    }
+
+    public void sendTaskApplicationEmail(User taskPoster, User applicant, String taskTitle) {
         String subject = "New Application for Your Task: " + taskTitle;
         String text = String.format("""
                 Hi %s,
@@ -38,7 +51,7 @@ public class EmailService {
         sendEmail(taskPoster.getEmail(), subject, text);
     }
 
-    public void sendTaskAssignedEmail(User applicant, String taskTitle) throws MessagingException {
+    public void sendTaskAssignedEmail(User applicant, String taskTitle) {
         String subject = "You’ve Been Assigned to a Task!";
         String text = String.format("""
                 Hi %s,
@@ -58,7 +71,7 @@ public class EmailService {
         sendEmail(applicant.getEmail(), subject, text);
     }
 
-    public void sendTaskCompletedEmail(User user, String taskTitle, boolean isCompleter) throws MessagingException {
+    public void sendTaskCompletedEmail(User user, String taskTitle, boolean isCompleter) {
         String subject = "Task Completed: " + taskTitle;
         String text;
         if (isCompleter) {
@@ -88,13 +101,16 @@ public class EmailService {
         sendEmail(user.getEmail(), subject, text);
     }
 
-    private void sendEmail(String to, String subject, String text) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
-        helper.setTo(to);
-        helper.setSubject(subject);
-        helper.setText(text, false); // false = plain text (not HTML)
-        helper.setFrom("no-reply@neighborlygigs.co.za"); // or your verified sender
-        mailSender.send(message);
+    private void sendEmail(String to, String subject, String text) {
+        enqueue(to, subject, text, false); // false = plain text (not HTML)
+    }
+
+    private void enqueue(String to, String subject, String body, boolean html) {
+        outboxEmailRepository.save(OutboxEmail.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .html(html)
+                .build());
     }
 }
@@ -4,6 +4,12 @@ import co.za.neighborlygigs.domain.Notification;
 import java.util.List;
 
 public interface NotificationService {
+    Notification send(Notification notification);
+
+    // Fan-out: persists all notifications in one batched insert
+    List<Notification> sendAll(List<Notification> notifications);
+
     List<Notification> getNotificationsForUser(Long userId);
     void markAllAsRead(Long userId);
+    long getUnreadCount(Long userId);
 }
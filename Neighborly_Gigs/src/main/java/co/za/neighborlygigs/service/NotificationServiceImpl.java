@@ -1,20 +1,49 @@
 package co.za.neighborlygigs.service;
 
 import co.za.neighborlygigs.domain.Notification;
+import co.za.neighborlygigs.event.NotificationsCreatedEvent;
+import co.za.neighborlygigs.event.NotificationsReadEvent;
+import co.za.neighborlygigs.notification.UnreadNotificationCounter;
 import co.za.neighborlygigs.repository.NotificationRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
+@Transactional
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnreadNotificationCounter unreadCounter;
 
-    public NotificationServiceImpl(NotificationRepository notificationRepository) {
+    public NotificationServiceImpl(NotificationRepository notificationRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   UnreadNotificationCounter unreadCounter) {
         this.notificationRepository = notificationRepository;
+        this.eventPublisher = eventPublisher;
+        this.unreadCounter = unreadCounter;
     }
 
     @Override
+    public Notification send(Notification notification) {
+        Notification saved = notificationRepository.save(notification);
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(List.of(saved.getRecipient().getId())));
+        return saved;
+    }
+
+    @Override
+    public List<Notification> sendAll(List<Notification> notifications) {
+        // Sequence ids are pre-allocated, so Hibernate groups these into JDBC batches at flush
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(
+                saved.stream().map(n -> n.getRecipient().getId()).toList()));
+        return saved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Notification> getNotificationsForUser(Long userId) {
         return notificationRepository.findByRecipient_IdOrderByCreatedAtDesc(userId);
     }
@@ -22,5 +51,12 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public void markAllAsRead(Long userId) {
         notificationRepository.markAllAsRead(userId);
+        eventPublisher.publishEvent(new NotificationsReadEvent(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return unreadCounter.getUnreadCount(userId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.enums.TransactionStatus;
+import co.za.neighborlygigs.metrics.LatencyHistogram;
+import co.za.neighborlygigs.money.Money;
+import co.za.neighborlygigs.payment.PaymentGateway;
+import co.za.neighborlygigs.payment.PaymentGatewayException;
+import co.za.neighborlygigs.payment.PayoutRequest;
+import co.za.neighborlygigs.payment.PayoutResult;
+import co.za.neighborlygigs.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Settles PENDING transactions against the {@link PaymentGateway}.
+ *
+ * A run walks the pending rows in id order with a keyset cursor, {@code chunk-size} at a time: one
+ * small projection query, one gateway call, one commit. Memory stays at one chunk however many rows
+ * are pending, and no DB transaction is held open while the gateway runs. Every chunk is final once
+ * committed, and the gateway is idempotent per transaction id, so a run that dies part-way is simply
+ * started again: settled rows are no longer PENDING, and a chunk paid but not yet committed gets the
+ * same answers a second time. Chunks the gateway could not answer stay PENDING for the next run.
+ */
+@Component
+public class PayoutSettlementJob {
+    private static final Logger logger = LoggerFactory.getLogger(PayoutSettlementJob.class);
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionService transactionService;
+    private final PaymentGateway paymentGateway;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicLong paidCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong deferredCount = new AtomicLong();
+    // Total paid out, in cents
+    private final LongAdder paidOutCents = new LongAdder();
+    private final AtomicLong runCount = new AtomicLong();
+    private volatile long lastRunMillis;
+    private final LatencyHistogram gatewayLatency = new LatencyHistogram();
+
+    public PayoutSettlementJob(TransactionRepository transactionRepository,
+                               TransactionService transactionService,
+                               PaymentGateway paymentGateway,
+                               @Value("${neighborlygigs.settlement.chunk-size:500}") int chunkSize) {
+        this.transactionRepository = transactionRepository;
+        this.transactionService = transactionService;
+        this.paymentGateway = paymentGateway;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Scheduled(fixedDelayString = "${neighborlygigs.settlement.interval-ms:300000}")
+    public void settlePending() {
+        // A manual run and the schedule must not overlap within one instance
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long settled = 0;
+        try {
+            long afterId = 0;
+            List<PayoutRequest> chunk;
+            do {
+                chunk = transactionRepository.findPayoutsAfter(TransactionStatus.PENDING, afterId, Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                // Advance past deferred rows too, so one failing chunk cannot stall the run
+                afterId = chunk.get(chunk.size() - 1).getTransactionId();
+                settled += settleChunk(chunk);
+            } while (chunk.size() == chunkSize);
+        } finally {
+            lastRunMillis = System.currentTimeMillis() - start;
+            runCount.incrementAndGet();
+            running.set(false);
+        }
+        if (settled > 0) {
+            logger.info("Settlement run: {} transactions settled in {} ms", settled, lastRunMillis);
+        }
+    }
+
+    private int settleChunk(List<PayoutRequest> chunk) {
+        Map<Long, PayoutResult> results;
+        long callStart = System.nanoTime();
+        try {
+            results = paymentGateway.payout(chunk);
+        } catch (PaymentGatewayException e) {
+            deferredCount.addAndGet(chunk.size());
+            logger.warn("Payment gateway failed for {} payouts from transaction {}: {}",
+                    chunk.size(), chunk.get(0).getTransactionId(), e.getMessage());
+            return 0;
+        } finally {
+            gatewayLatency.record(System.nanoTime() - callStart);
+        }
+
+        int moved = transactionService.recordPayoutResults(results);
+        long paid = 0;
+        for (PayoutRequest request : chunk) {
+            PayoutResult result = results.get(request.getTransactionId());
+            if (result != null && result.isPaid()) {
+                paid++;
+                paidOutCents.add(request.getAmount().getCents());
+            }
+        }
+        paidCount.addAndGet(paid);
+        rejectedCount.addAndGet(results.size() - paid);
+        deferredCount.addAndGet(chunk.size() - results.size());
+        return moved;
+    }
+
+    public Map<String, Object> snapshotStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("paid", paidCount.get());
+        stats.put("paidOut", Money.ofCents(paidOutCents.sum()).toString());
+        stats.put("rejected", rejectedCount.get());
+        stats.put("deferred", deferredCount.get());
+        stats.put("runs", runCount.get());
+        stats.put("lastRunMillis", lastRunMillis);
+        stats.put("running", running.get());
+        stats.put("pending", transactionRepository.countByStatus(TransactionStatus.PENDING));
+        stats.put("gatewayLatency", gatewayLatency.snapshot());
+        return stats;
+    }
+}
@@ -0,0 +1,17 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.UserReputation;
+
+public interface ReputationService {
+    // Called inside the review / completion transaction so the aggregate commits with its source row
+    void recordReview(Long revieweeId, int rating);
+    // Counts the job for the assignee overall and in the task's category, and adds its location
+    void recordCompletedJob(Task task);
+
+    // O(1) primary-key read; an empty aggregate when the user has no history
+    UserReputation getReputation(Long userId);
+
+    // Recomputes all aggregates from reviews, tasks and applications; returns the number of rows refreshed
+    int reconcile();
+}
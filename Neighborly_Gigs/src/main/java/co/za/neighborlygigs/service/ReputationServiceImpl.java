@@ -0,0 +1,79 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.UserReputation;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.repository.UserCategoryJobsRepository;
+import co.za.neighborlygigs.repository.UserReputationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Service
+@Transactional
+public class ReputationServiceImpl implements ReputationService {
+    private static final Logger logger = LoggerFactory.getLogger(ReputationServiceImpl.class);
+
+    private final UserReputationRepository reputationRepository;
+    private final UserCategoryJobsRepository categoryJobsRepository;
+
+    public ReputationServiceImpl(UserReputationRepository reputationRepository,
+                                 UserCategoryJobsRepository categoryJobsRepository) {
+        this.reputationRepository = reputationRepository;
+        this.categoryJobsRepository = categoryJobsRepository;
+    }
+
+    @Override
+    public void recordReview(Long revieweeId, int rating) {
+        if (reputationRepository.addRating(revieweeId, rating) == 0) {
+            // First activity for this user: create the row, then apply the same increment
+            reputationRepository.insertIfMissing(revieweeId);
+            reputationRepository.addRating(revieweeId, rating);
+        }
+    }
+
+    @Override
+    public void recordCompletedJob(Task task) {
+        Long workerId = task.getAssignedTo().getId();
+        boolean located = task.getLatitude() != null && task.getLongitude() != null;
+        double latitude = located ? task.getLatitude() : 0;
+        double longitude = located ? task.getLongitude() : 0;
+        if (reputationRepository.addCompletedJob(workerId, latitude, longitude, located ? 1 : 0) == 0) {
+            reputationRepository.insertIfMissing(workerId);
+            reputationRepository.addCompletedJob(workerId, latitude, longitude, located ? 1 : 0);
+        }
+        if (categoryJobsRepository.addCompletedJob(workerId, task.getCategory()) == 0) {
+            categoryJobsRepository.insertIfMissing(workerId, task.getCategory().name());
+            categoryJobsRepository.addCompletedJob(workerId, task.getCategory());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserReputation getReputation(Long userId) {
+        return reputationRepository.findById(userId).orElseGet(() -> UserReputation.empty(userId));
+    }
+
+    @Override
+    @Scheduled(cron = "${neighborlygigs.reputation.reconcile-cron:0 0 3 * * *}")
+    public int reconcile() {
+        Set<Long> missing = new LinkedHashSet<>(reputationRepository.findReviewedUsersWithoutReputation());
+        missing.addAll(reputationRepository.findWorkersWithoutReputation(TaskStatus.COMPLETED));
+        missing.addAll(reputationRepository.findApplicantsWithoutReputation());
+        // A first review or completed job may create the row meanwhile; skipped rather than a duplicate key
+        for (Long userId : missing) {
+            reputationRepository.insertIfMissing(userId);
+        }
+
+        int refreshed = reputationRepository.recomputeAll(TaskStatus.COMPLETED);
+        categoryJobsRepository.deleteAllRows();
+        categoryJobsRepository.insertFromTasks(TaskStatus.COMPLETED);
+        logger.info("Reconciled {} user reputation aggregates ({} created)", refreshed, missing.size());
+        return refreshed;
+    }
+}
@@ -13,7 +13,7 @@ public interface ReviewService {
      * - Reviewer and reviewee must be involved in the task
      * - Only one review per direction per task
      */
-    Review submitReview(Long taskId, String reviewerEmail, String revieweeEmail, int rating, String comment);
+    Review submitReview(Long taskId, Long reviewerId, String revieweeEmail, int rating, String comment);
 
      // Get all reviews for a task (both directions)
     List<Review> getReviewsForTask(Long taskId);
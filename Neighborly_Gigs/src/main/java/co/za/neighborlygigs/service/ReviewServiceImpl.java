@@ -2,11 +2,13 @@
 
 package co.za.neighborlygigs.service;
 
+import co.za.neighborlygigs.cache.UserLookup;
 import co.za.neighborlygigs.domain.*;
 import co.za.neighborlygigs.domain.enums.*;
+import co.za.neighborlygigs.event.ReviewSubmittedEvent;
 import co.za.neighborlygigs.repository.ReviewRepository;
 import co.za.neighborlygigs.repository.TaskRepository;
-import co.za.neighborlygigs.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,19 +19,25 @@ import java.util.List;
 public class ReviewServiceImpl implements ReviewService {
 
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
+    private final UserLookup userLookup;
     private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReputationService reputationService;
 
     public ReviewServiceImpl(TaskRepository taskRepository,
-                             UserRepository userRepository,
-                             ReviewRepository reviewRepository) {
+                             UserLookup userLookup,
+                             ReviewRepository reviewRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             ReputationService reputationService) {
         this.taskRepository = taskRepository;
-        this.userRepository = userRepository;
+        this.userLookup = userLookup;
         this.reviewRepository = reviewRepository;
+        this.eventPublisher = eventPublisher;
+        this.reputationService = reputationService;
     }
 
     @Override
-    public Review submitReview(Long taskId, String reviewerEmail, String revieweeEmail, int rating, String comment) {
+    public Review submitReview(Long taskId, Long reviewerId, String revieweeEmail, int rating, String comment) {
         // Validate rating
         if (rating < 1 || rating > 5) {
             throw new IllegalArgumentException("Rating must be between 1 and 5");
@@ -45,9 +53,9 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         // Load users
-        User reviewer = userRepository.findByEmail(reviewerEmail)
+        User reviewer = userLookup.findById(reviewerId)
                 .orElseThrow(() -> new RuntimeException("Reviewer not found"));
-        User reviewee = userRepository.findByEmail(revieweeEmail)
+        User reviewee = userLookup.findByEmail(revieweeEmail)
                 .orElseThrow(() -> new RuntimeException("Reviewee not found"));
 
         // Ensure both users were involved in the task
@@ -68,17 +76,23 @@ public class ReviewServiceImpl implements ReviewService {
         review.setRating(rating);
         review.setComment(comment);
 
-        return reviewRepository.save(review);
+        Review savedReview = reviewRepository.save(review);
+        reputationService.recordReview(reviewee.getId(), rating);
+        eventPublisher.publishEvent(new ReviewSubmittedEvent(
+                savedReview.getId(), taskId, reviewer.getId(), reviewee.getId(), rating));
+        return savedReview;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Review> getReviewsForTask(Long taskId) {
         return reviewRepository.findByTask_Id(taskId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Review> getReviewsForUser(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
+        User user = userLookup.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         return reviewRepository.findByReviewee_Id(user.getId());
     }
@@ -3,15 +3,30 @@ package co.za.neighborlygigs.service;
 import co.za.neighborlygigs.domain.Task;
 import co.za.neighborlygigs.domain.enums.TaskCategory;
 import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.dto.TaskFeedPage;
+import co.za.neighborlygigs.geo.GeoPoint;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 public interface TaskService {
     Task createTask(String title, String description, TaskCategory category,
-                    BigDecimal budget, String address, String requirements, String posterEmail);
+                    BigDecimal budget, String address, String requirements, Long posterId);
     List<Task> getAllOpenTasks();
+
+    // Keyset-paginated open-task feed: pass the previous page's nextCursor (or null for the first page)
+    TaskFeedPage getOpenTasksPage(Long beforeId, int size);
+
+    // Ranked full-text search over open tasks (title, description, requirements)
+    List<TaskCard> searchOpenTasks(String query, int limit);
+
+    // Open tasks within radiusKm of a point, nearest first (cards carry distanceKm)
+    List<TaskCard> findOpenTasksNear(GeoPoint origin, double radiusKm, int limit);
+
+    // Resolves a place or address through the configured geocoder; null when it is unknown
+    GeoPoint locate(String address);
     Task getTaskById(Long id);
-    Task assignTask(Long taskId, String applicantEmail, String posterEmail);
-    Task completeTask(Long taskId, String currentUserEmail);
+    Task assignTask(Long taskId, Long applicantId, Long posterId);
+    Task completeTask(Long taskId, Long currentUserId);
 }
\ No newline at end of file
@@ -1,14 +1,26 @@
 package co.za.neighborlygigs.service;
 
+import co.za.neighborlygigs.cache.OpenTaskBoardCache;
+import co.za.neighborlygigs.cache.UserLookup;
+import co.za.neighborlygigs.event.TaskClosedEvent;
+import co.za.neighborlygigs.event.TaskOpenedEvent;
 import co.za.neighborlygigs.domain.enums.*;
 import co.za.neighborlygigs.domain.*;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.dto.TaskFeedPage;
 import co.za.neighborlygigs.factory.TaskFactory;
 import co.za.neighborlygigs.factory.NotificationFactory;
+import co.za.neighborlygigs.geo.GeoPoint;
+import co.za.neighborlygigs.geo.Geocoder;
+import co.za.neighborlygigs.geo.TaskGeoIndex;
 import co.za.neighborlygigs.repository.*;
+import co.za.neighborlygigs.search.TaskSearchIndex;
 import co.za.neighborlygigs.util.GeoCodingUtil;
-import jakarta.mail.MessagingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,124 +31,180 @@ import java.util.List;
 @Transactional
 public class TaskServiceImpl implements TaskService {
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final TaskRepository taskRepository;
     private final ApplicationRepository applicationRepository;
-    private final UserRepository userRepository;
-    private final NotificationRepository notificationRepository;
+    private final UserLookup userLookup;
+    private final NotificationService notificationService;
     private final TransactionService transactionService;
     private final EmailService emailService;
+    private final OpenTaskBoardCache boardCache;
+    private final TaskSearchIndex searchIndex;
+    private final TaskGeoIndex geoIndex;
+    private final Geocoder geocoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReputationService reputationService;
 
     public TaskServiceImpl(TaskRepository taskRepository,
                            ApplicationRepository applicationRepository,
-                           UserRepository userRepository,
-                           NotificationRepository notificationRepository,
-                           TransactionService transactionService, EmailService emailService) {
+                           UserLookup userLookup,
+                           NotificationService notificationService,
+                           TransactionService transactionService, EmailService emailService,
+                           OpenTaskBoardCache boardCache, TaskSearchIndex searchIndex,
+                           TaskGeoIndex geoIndex, Geocoder geocoder,
+                           ApplicationEventPublisher eventPublisher,
+                           ReputationService reputationService) {
         this.taskRepository = taskRepository;
         this.applicationRepository = applicationRepository;
-        this.userRepository = userRepository;
-        this.notificationRepository = notificationRepository;
+        this.userLookup = userLookup;
+        this.notificationService = notificationService;
         this.transactionService = transactionService;
         this.emailService = emailService;
-
+        this.boardCache = boardCache;
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+        this.geocoder = geocoder;
+        this.eventPublisher = eventPublisher;
+        this.reputationService = reputationService;
     }
 
     @Override
     public Task createTask(String title, String description, TaskCategory category,
-                           BigDecimal budget, String address, String requirements, String posterEmail) {
-        User poster = userRepository.findByEmail(posterEmail)
+                           BigDecimal budget, String address, String requirements, Long posterId) {
+        User poster = userLookup.findById(posterId)
                 .orElseThrow(() -> new RuntimeException("Poster not found"));
         String formattedAddress = GeoCodingUtil.formatAddressForGeocoding(address);
         Task task = TaskFactory.createTask(title, description, category, budget, formattedAddress, requirements, poster);
-        return taskRepository.save(task);
+        geocoder.geocode(formattedAddress).ifPresent(point -> {
+            task.setLatitude(point.getLatitude());
+            task.setLongitude(point.getLongitude());
+        });
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskOpenedEvent(TaskCard.from(savedTask)));
+        return savedTask;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Task> getAllOpenTasks() {
         return taskRepository.findByStatusOrderByIdDesc(TaskStatus.OPEN);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public TaskFeedPage getOpenTasksPage(Long beforeId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Fetch one extra row so we know whether another page exists without a COUNT query
+        List<TaskCard> rows = boardCache.findPage(beforeId, pageSize + 1);
+        if (rows == null) {
+            // Page lies beyond the cached prefix of the board
+            Limit limit = Limit.of(pageSize + 1);
+            rows = (beforeId == null)
+                    ? taskRepository.findCardsByStatus(TaskStatus.OPEN, limit)
+                    : taskRepository.findCardsByStatusBefore(TaskStatus.OPEN, beforeId, limit);
+        }
+
+        if (rows.size() <= pageSize) {
+            return new TaskFeedPage(rows, null);
+        }
+        List<TaskCard> page = rows.subList(0, pageSize);
+        return new TaskFeedPage(page, page.get(pageSize - 1).getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskCard> searchOpenTasks(String query, int limit) {
+        return searchIndex.search(query, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskCard> findOpenTasksNear(GeoPoint origin, double radiusKm, int limit) {
+        return geoIndex.findNearby(origin, radiusKm, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    @Override
+    public GeoPoint locate(String address) {
+        return geocoder.geocode(address).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Task getTaskById(Long id) {
         return taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
     }
 
     @Override
-    public Task assignTask(Long taskId, String applicantEmail, String posterEmail) {
+    public Task assignTask(Long taskId, Long applicantId, Long posterId) {
         Task task = getTaskById(taskId);
-        User poster = userRepository.findByEmail(posterEmail)
-                .orElseThrow(() -> new RuntimeException("Poster not found"));
-        User applicant = userRepository.findByEmail(applicantEmail)
-                .orElseThrow(() -> new RuntimeException("Applicant not found"));
-
-        if (!task.getPoster().getId().equals(poster.getId())) {
+        if (!task.getPoster().getId().equals(posterId)) {
             throw new RuntimeException("Only the task poster can assign this task");
         }
+        if (task.getStatus() != TaskStatus.OPEN) {
+            // A retried request that already went through gets the same answer again
+            if (task.getStatus() == TaskStatus.ASSIGNED && task.getAssignedTo() != null
+                    && task.getAssignedTo().getId().equals(applicantId)) {
+                return task;
+            }
+            throw new RuntimeException("This task is no longer open");
+        }
+
+        Application application = applicationRepository.findByTask_IdAndApplicant_Id(taskId, applicantId)
+                .orElseThrow(() -> new RuntimeException("Application not found"));
+        User applicant = userLookup.findById(applicantId)
+                .orElseThrow(() -> new RuntimeException("Applicant not found"));
 
         task.setAssignedTo(applicant);
         task.setStatus(TaskStatus.ASSIGNED);
-
-        Application application = applicationRepository.findByTask_IdAndApplicant_Id(taskId, applicant.getId())
-                .orElseThrow(() -> new RuntimeException("Application not found"));
         application.setStatus(ApplicationStatus.ACCEPTED);
+        try {
+            // Flush now so a concurrent assign shows up here (version mismatch) rather than at commit
+            taskRepository.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException e) {
+            throw new RuntimeException("This task was just updated by someone else, please try again");
+        }
+        eventPublisher.publishEvent(new TaskClosedEvent(taskId, task.getStatus(), applicantId));
 
-        notificationRepository.save(
+        notificationService.send(
                 NotificationFactory.createTaskAssignedNotification(applicant, task.getTitle())
         );
 
-        // Send email — safely handle exception
-        try {
-            emailService.sendTaskAssignedEmail(applicant, task.getTitle());
-        } catch (MessagingException e) {
-            logger.warn("Failed to send assignment email to {}: {}", applicant.getEmail(), e.getMessage());
-            // Do NOT fail the transaction — email is secondary
-        }
-        return taskRepository.save(task);
+        // Queue email (delivered after commit by the outbox dispatcher)
+        emailService.sendTaskAssignedEmail(applicant, task.getTitle());
+        return task;
     }
 
     @Override
-    public Task completeTask(Long taskId, String currentUserEmail) {
+    public Task completeTask(Long taskId, Long currentUserId) {
         Task task = getTaskById(taskId);
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!task.getPoster().getId().equals(currentUser.getId()) &&
-                !task.getAssignedTo().getId().equals(currentUser.getId())) {
+        if (!task.getPoster().getId().equals(currentUserId) &&
+                (task.getAssignedTo() == null || !task.getAssignedTo().getId().equals(currentUserId))) {
             throw new RuntimeException("Only involved parties can complete this task");
         }
 
         task.setStatus(TaskStatus.COMPLETED);
         task.setCompletedAt(java.time.LocalDateTime.now());
+        eventPublisher.publishEvent(new TaskClosedEvent(taskId, task.getStatus(),
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null));
         transactionService.createTransaction(task);
-
-        notificationRepository.save(
-                NotificationFactory.createTaskCompletedNotification(task.getPoster(), task.getTitle())
-        );
-        notificationRepository.save(
-                NotificationFactory.createTaskCompletedNotification(task.getAssignedTo(), task.getTitle())
-        );
-
-        // Send emails — safely handle exceptions
-        try {
-            emailService.sendTaskCompletedEmail(task.getPoster(), task.getTitle(), false);
-        } catch (MessagingException e) {
-            logger.warn("Failed to send completion email to poster {}: {}", task.getPoster().getEmail(), e.getMessage());
+        if (task.getAssignedTo() != null) {
+            reputationService.recordCompletedJob(task);
         }
 
-        try {
-            emailService.sendTaskCompletedEmail(task.getAssignedTo(), task.getTitle(), true);
-        } catch (MessagingException e) {
-            logger.warn("Failed to send completion email to completer {}: {}", task.getAssignedTo().getEmail(), e.getMessage());
-        }
+        // Queue emails (delivered after commit by the outbox dispatcher)
+        emailService.sendTaskCompletedEmail(task.getPoster(), task.getTitle(), false);
+        emailService.sendTaskCompletedEmail(task.getAssignedTo(), task.getTitle(), true);
 
-        // Notify both parties to leave reviews
-        notificationRepository.save(
-                NotificationFactory.createReviewReminderNotification(task.getPoster(), task.getAssignedTo(), task.getTitle())
-        );
-        notificationRepository.save(
+        // Notify both parties of completion and remind them to leave reviews (one batched insert)
+        notificationService.sendAll(List.of(
+                NotificationFactory.createTaskCompletedNotification(task.getPoster(), task.getTitle()),
+                NotificationFactory.createTaskCompletedNotification(task.getAssignedTo(), task.getTitle()),
+                NotificationFactory.createReviewReminderNotification(task.getPoster(), task.getAssignedTo(), task.getTitle()),
                 NotificationFactory.createReviewReminderNotification(task.getAssignedTo(), task.getPoster(), task.getTitle())
-        );
+        ));
         return taskRepository.save(task);
     }
 }
\ No newline at end of file
@@ -2,8 +2,19 @@ package co.za.neighborlygigs.service;
 
 import co.za.neighborlygigs.domain.Task;
 import co.za.neighborlygigs.domain.Transaction;
+import co.za.neighborlygigs.payment.PayoutResult;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.Map;
 
 public interface TransactionService {
     Transaction createTransaction(Task task);
-    // Later: void processPayment(Long transactionId);
+
+    // Applies gateway results to transactions still PENDING, in one commit; returns how many moved
+    int recordPayoutResults(Map<Long, PayoutResult> results);
+
+    // Writes transactions created in [from, to) as CSV, one row at a time; returns the number of rows
+    long exportCsv(LocalDateTime from, LocalDateTime to, Writer out) throws IOException;
 }
\ No newline at end of file
@@ -2,14 +2,28 @@ package co.za.neighborlygigs.service;
 
 import co.za.neighborlygigs.domain.Task;
 import co.za.neighborlygigs.domain.Transaction;
+import co.za.neighborlygigs.domain.enums.TransactionStatus;
+import co.za.neighborlygigs.dto.TransactionExportRow;
 import co.za.neighborlygigs.factory.TransactionFactory;
+import co.za.neighborlygigs.payment.PayoutResult;
 import co.za.neighborlygigs.repository.TransactionRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
 @Service
 @Transactional
 public class TransactionServiceImpl implements TransactionService {
+    private static final String CSV_HEADER = "transaction_id,created_at,settled_at,status,total_amount,platform_fee," +
+            "payout_to_completer,payment_reference,task_id,task_title,completer_id,completer_name,completer_email\r\n";
+    private static final DateTimeFormatter CSV_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     private final TransactionRepository transactionRepository;
 
@@ -27,4 +41,95 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction transaction = TransactionFactory.createTransaction(task);
         return transactionRepository.save(transaction);
     }
+
+    @Override
+    public int recordPayoutResults(Map<Long, PayoutResult> results) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        // Rows another run already settled are not loaded, so applying the same results twice is a no-op
+        LocalDateTime now = LocalDateTime.now();
+        int moved = 0;
+        for (Transaction transaction : transactionRepository.findByIdInAndStatus(results.keySet(), TransactionStatus.PENDING)) {
+            PayoutResult result = results.get(transaction.getId());
+            transaction.setStatus(result.isPaid() ? TransactionStatus.SUCCESS : TransactionStatus.REJECTED);
+            transaction.setPayfastPaymentId(result.getReference());
+            transaction.setSettledAt(now);
+            moved++;
+        }
+        // Dirty rows are flushed as batched UPDATEs at commit
+        return moved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportCsv(LocalDateTime from, LocalDateTime to, Writer out) throws IOException {
+        out.write(CSV_HEADER);
+        long rows = 0;
+        // Each row is written and dropped before the next is read; nothing is collected
+        try (Stream<TransactionExportRow> stream = transactionRepository.streamExportRows(from, to)) {
+            Iterator<TransactionExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writeCsvRow(iterator.next(), out);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static void writeCsvRow(TransactionExportRow row, Writer out) throws IOException {
+        out.write(String.valueOf(row.getId()));
+        out.write(',');
+        out.write(CSV_TIME.format(row.getCreatedAt()));
+        out.write(',');
+        if (row.getSettledAt() != null) {
+            out.write(CSV_TIME.format(row.getSettledAt()));
+        }
+        out.write(',');
+        out.write(row.getStatus().name());
+        out.write(',');
+        out.write(row.getTotalAmount().toString());
+        out.write(',');
+        out.write(row.getPlatformFee().toString());
+        out.write(',');
+        out.write(row.getPayoutToCompleter().toString());
+        out.write(',');
+        writeCsvText(row.getPaymentReference(), out);
+        out.write(',');
+        out.write(String.valueOf(row.getTaskId()));
+        out.write(',');
+        writeCsvText(row.getTaskTitle(), out);
+        out.write(',');
+        if (row.getCompleterId() != null) {
+            out.write(String.valueOf(row.getCompleterId()));
+            out.write(',');
+            writeCsvText(row.getCompleterFirstName() + " " + row.getCompleterLastName(), out);
+            out.write(',');
+            writeCsvText(row.getCompleterEmail(), out);
+        } else {
+            out.write(",,");
+        }
+        out.write("\r\n");
+    }
+
+    // RFC 4180 quoting; user-typed text that a spreadsheet would run as a formula is prefixed with '
+    private static void writeCsvText(String value, Writer out) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        boolean formula = first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        if (formula) {
+            out.write('\'');
+        }
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
 }
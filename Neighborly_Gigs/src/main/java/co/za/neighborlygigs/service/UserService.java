@@ -5,8 +5,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 // Extends generic CRUD + adds custom methods
 public interface UserService {
-    User read(String email);
-    User updateProfile(String email, String bio, String phone);
-    String uploadProfilePicture(String email, MultipartFile file);
-    String uploadCv(String email, MultipartFile file);
+    // Read-only snapshot, served from the user cache when possible
+    User read(Long id);
+    User updateProfile(Long id, String bio, String phone);
+    // Both return the stored file's URL
+    String uploadProfilePicture(Long id, MultipartFile file);
+    String uploadCv(Long id, MultipartFile file);
 }
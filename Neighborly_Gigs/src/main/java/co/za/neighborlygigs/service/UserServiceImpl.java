@@ -2,49 +2,90 @@
 
 package co.za.neighborlygigs.service;
 
+import co.za.neighborlygigs.cache.UserLookup;
 import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.image.ProfileImagePipeline;
 import co.za.neighborlygigs.repository.UserRepository;
+import co.za.neighborlygigs.storage.BlobStore;
+import co.za.neighborlygigs.storage.StoredBlob;
 import co.za.neighborlygigs.util.FileUploadUtil;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @Service
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserLookup userLookup;
+    private final BlobStore blobStore;
+    private final ProfileImagePipeline imagePipeline;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, UserLookup userLookup, BlobStore blobStore,
+                           ProfileImagePipeline imagePipeline) {
         this.userRepository = userRepository;
+        this.userLookup = userLookup;
+        this.blobStore = blobStore;
+        this.imagePipeline = imagePipeline;
     }
 
     @Override
-    public User read(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
+    public User read(Long id) {
+        return userLookup.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
     }
 
     @Override
-    public User updateProfile(String email, String bio, String phone) {
-        User user = read(email);
+    public User updateProfile(Long id, String bio, String phone) {
+        // Modify the managed entity, never the cached snapshot
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         user.setBio(bio);
         user.setPhone(phone);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userLookup.invalidate(id);
+        return saved;
     }
 
     @Override
-    public String uploadProfilePicture(String email, MultipartFile file) {
+    public String uploadProfilePicture(Long id, MultipartFile file) {
         if (!FileUploadUtil.isImageFile(file)) {
             throw new RuntimeException("Only image files (JPEG/PNG) are allowed");
         }
-        // TODO: Save to cloud storage (AWS S3, etc.)
-        return "https://neighborlygigs.co.za/images/" + email + "/profile.jpg";
+        StoredBlob blob = store(file);
+        // Avatar and thumbnail renditions are made in the background
+        imagePipeline.submit(blob);
+        String url = "/files/" + blob.getKey();
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        user.setProfilePictureUrl(url);
+        userRepository.save(user);
+        userLookup.invalidate(id);
+        return url;
     }
 
     @Override
-    public String uploadCv(String email, MultipartFile file) {
+    public String uploadCv(Long id, MultipartFile file) {
         if (!FileUploadUtil.isDocumentFile(file)) {
             throw new RuntimeException("Only PDF or DOC files are allowed");
         }
-        return "https://neighborlygigs.co.za/cvs/" + email + "/cv.pdf";
+        String url = "/files/" + store(file).getKey();
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        user.setCvUrl(url);
+        userRepository.save(user);
+        userLookup.invalidate(id);
+        return url;
+    }
+
+    // Streams the upload into the blob store; FileController serves it at /files/{key}
+    private StoredBlob store(MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            return blobStore.store(content, FileUploadUtil.extensionFor(file.getContentType()));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new RuntimeException("Could not store file: " + e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
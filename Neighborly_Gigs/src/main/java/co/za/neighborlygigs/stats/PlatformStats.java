@@ -0,0 +1,188 @@
+package co.za.neighborlygigs.stats;
+
+import co.za.neighborlygigs.datasource.PrimaryReads;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.event.ReviewSubmittedEvent;
+import co.za.neighborlygigs.event.TaskClosedEvent;
+import co.za.neighborlygigs.event.TaskOpenedEvent;
+import co.za.neighborlygigs.repository.ReviewRepository;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Dashboard statistics kept in memory and updated from the service write paths,
+ * so a dashboard hit never runs COUNT/AVG queries.
+ *
+ * Counters are recomputed from the database at startup and on a schedule, which corrects drift
+ * from missed events. A rebuild cannot tell whether an event delivered while its queries ran was
+ * already counted by them, so a counter moved by such an event keeps its incremental value until
+ * the next rebuild; the others are overwritten under a lock that events take the other side of.
+ * Left over is an event whose transaction committed before the queries but is delivered after the
+ * rebuild, which it counts twice; delivery follows commit on the same thread, so that window is short.
+ */
+@Component
+public class PlatformStats {
+    private static final Logger logger = LoggerFactory.getLogger(PlatformStats.class);
+
+    private final TaskRepository taskRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionRepository transactionRepository;
+
+    private final AtomicLong jobsPosted = new AtomicLong();
+    private final AtomicLong completedTasks = new AtomicLong();
+    private final AtomicLong cancelledTasks = new AtomicLong();
+    private final AtomicLong ratingSum = new AtomicLong();
+    private final AtomicLong ratingCount = new AtomicLong();
+    private volatile Set<Long> activeWorkers = ConcurrentHashMap.newKeySet();
+
+    // Events delivered so far, by kind, so a rebuild can tell which counters moved while it queried
+    private final AtomicLong openedEvents = new AtomicLong();
+    private final AtomicLong closedEvents = new AtomicLong();
+    private final AtomicLong reviewEvents = new AtomicLong();
+    // Events share the read side; a rebuild takes the write side only to compare and overwrite
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    public PlatformStats(TaskRepository taskRepository,
+                         ReviewRepository reviewRepository,
+                         TransactionRepository transactionRepository) {
+        this.taskRepository = taskRepository;
+        this.reviewRepository = reviewRepository;
+        this.transactionRepository = transactionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${neighborlygigs.stats.rebuild-interval-ms:900000}",
+            fixedDelayString = "${neighborlygigs.stats.rebuild-interval-ms:900000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        // From the primary: a lagging replica would overwrite counts that events have already moved on
+        PrimaryReads.run(this::recount);
+    }
+
+    private void recount() {
+        long opened = openedEvents.get();
+        long closed = closedEvents.get();
+        long reviewed = reviewEvents.get();
+        long posted = taskRepository.count();
+        long completed = taskRepository.countByStatus(TaskStatus.COMPLETED);
+        long cancelled = taskRepository.countByStatus(TaskStatus.CANCELLED);
+        long reviews = reviewRepository.count();
+        long ratings = reviewRepository.sumRatings();
+        Set<Long> workers = ConcurrentHashMap.newKeySet();
+        workers.addAll(transactionRepository.findDistinctCompleterIds());
+
+        rebuildLock.writeLock().lock();
+        try {
+            if (openedEvents.get() == opened) {
+                jobsPosted.set(posted);
+            }
+            if (closedEvents.get() == closed) {
+                completedTasks.set(completed);
+                cancelledTasks.set(cancelled);
+                activeWorkers = workers;
+            }
+            if (reviewEvents.get() == reviewed) {
+                ratingSum.set(ratings);
+                ratingCount.set(reviews);
+            }
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        logger.debug("Rebuilt platform stats: {} jobs, {} completed, {} workers, {} reviews",
+                posted, completed, workers.size(), reviews);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskOpened(TaskOpenedEvent event) {
+        rebuildLock.readLock().lock();
+        try {
+            jobsPosted.incrementAndGet();
+            openedEvents.incrementAndGet();
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskClosed(TaskClosedEvent event) {
+        rebuildLock.readLock().lock();
+        try {
+            if (event.getNewStatus() == TaskStatus.COMPLETED) {
+                completedTasks.incrementAndGet();
+                if (event.getAssignedToId() != null) {
+                    activeWorkers.add(event.getAssignedToId());
+                }
+            } else if (event.getNewStatus() == TaskStatus.CANCELLED) {
+                cancelledTasks.incrementAndGet();
+            }
+            closedEvents.incrementAndGet();
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewSubmitted(ReviewSubmittedEvent event) {
+        rebuildLock.readLock().lock();
+        try {
+            ratingSum.addAndGet(event.getRating());
+            ratingCount.incrementAndGet();
+            reviewEvents.incrementAndGet();
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    public long getJobsPosted() {
+        return jobsPosted.get();
+    }
+
+    public int getActiveWorkers() {
+        return activeWorkers.size();
+    }
+
+    // Average review rating, one decimal place; 0 until the first review
+    public double getAverageRating() {
+        long count = ratingCount.get();
+        if (count == 0) {
+            return 0.0;
+        }
+        return BigDecimal.valueOf(ratingSum.get())
+                .divide(BigDecimal.valueOf(count), 1, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+
+    // Percentage of finished tasks (completed or cancelled) that were completed
+    public long getSuccessRate() {
+        long completed = completedTasks.get();
+        long finished = completed + cancelledTasks.get();
+        return finished == 0 ? 0 : Math.round(completed * 100.0 / finished);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("jobsPosted", getJobsPosted());
+        stats.put("activeWorkers", getActiveWorkers());
+        stats.put("avgRating", getAverageRating());
+        stats.put("successRate", getSuccessRate());
+        return stats;
+    }
+}
@@ -0,0 +1,18 @@
+package co.za.neighborlygigs.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+// Content-addressed file storage. Swap in an object store by declaring it as a @Primary bean.
+public interface BlobStore {
+    // Streams the content to storage under its SHA-256; identical content is only stored once
+    StoredBlob store(InputStream content, String extension) throws IOException;
+
+    Optional<StoredBlob> find(String key);
+
+    // Derived JPEG renditions (thumbnails etc.) kept next to the original they were made from
+    StoredBlob storeVariant(String key, String variant, InputStream content) throws IOException;
+
+    Optional<StoredBlob> findVariant(String key, String variant);
+}
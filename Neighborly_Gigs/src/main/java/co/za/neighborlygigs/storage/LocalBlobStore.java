@@ -0,0 +1,188 @@
+package co.za.neighborlygigs.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Stores files on local disk under their SHA-256, as a stand-in for object storage.
+ *
+ * Uploads are copied through a fixed 64 KB buffer into a temp file while being hashed, then renamed
+ * into place ({@code ab/cd/<hash>.<ext>}), so no upload is ever held on the heap. If the target
+ * already exists the same bytes were uploaded before and the temp file is simply dropped.
+ * Variants of an original live beside it as {@code <hash>.<variant>.jpg}.
+ */
+@Component
+public class LocalBlobStore implements BlobStore {
+    private static final Logger logger = LoggerFactory.getLogger(LocalBlobStore.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "pdf", "application/pdf",
+            "doc", "application/msword",
+            "docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document"
+    );
+    // Keys come from URLs, so only ever resolve ones that look exactly like ours
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}\\.(jpg|jpeg|png|pdf|doc|docx)");
+    private static final Pattern VARIANT = Pattern.compile("[a-z0-9]{1,16}");
+
+    private final Path root;
+    private final Path incoming;
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    public LocalBlobStore(@Value("${neighborlygigs.storage.root:data/blobs}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        // Same file system as the blobs, so the final rename is atomic
+        this.incoming = this.root.resolve("incoming");
+        try {
+            Files.createDirectories(incoming);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create blob storage at " + this.root, e);
+        }
+        logger.info("Blob storage at {}", this.root);
+    }
+
+    @Override
+    public StoredBlob store(InputStream content, String extension) throws IOException {
+        String ext = extension.toLowerCase();
+        if (!CONTENT_TYPES.containsKey(ext)) {
+            throw new IllegalArgumentException("Unsupported file type: " + extension);
+        }
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(incoming, "upload-", ".tmp");
+        long size = 0;
+        try {
+            try (ReadableByteChannel in = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.array(), 0, buffer.limit());
+                    while (buffer.hasRemaining()) {
+                        size += out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest()) + "." + ext;
+            Path target = resolve(key);
+            if (Files.exists(target)) {
+                deduplicated.increment();
+                return new StoredBlob(key, target, size, CONTENT_TYPES.get(ext));
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                stored.increment();
+                bytesWritten.add(size);
+            } catch (FileAlreadyExistsException e) {
+                // Lost a race with an identical concurrent upload; theirs is the same bytes
+                deduplicated.increment();
+            }
+            return new StoredBlob(key, target, size, CONTENT_TYPES.get(ext));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Optional<StoredBlob> find(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        Path path = resolve(key);
+        try {
+            long size = Files.size(path);
+            String ext = key.substring(key.indexOf('.') + 1);
+            return Optional.of(new StoredBlob(key, path, size, CONTENT_TYPES.get(ext)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public StoredBlob storeVariant(String key, String variant, InputStream content) throws IOException {
+        if (!KEY.matcher(key).matches() || !VARIANT.matcher(variant).matches()) {
+            throw new IllegalArgumentException("Invalid variant " + variant + " of " + key);
+        }
+        Path target = resolve(variantKey(key, variant));
+        Path temp = Files.createTempFile(incoming, "variant-", ".tmp");
+        try {
+            long size = Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.createDirectories(target.getParent());
+            // Regenerating a variant yields equivalent bytes, so replacing a concurrent writer's copy is fine
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            bytesWritten.add(size);
+            return new StoredBlob(variantKey(key, variant), target, size, CONTENT_TYPES.get("jpg"));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Optional<StoredBlob> findVariant(String key, String variant) {
+        if (key == null || !KEY.matcher(key).matches() || !VARIANT.matcher(variant).matches()) {
+            return Optional.empty();
+        }
+        String variantKey = variantKey(key, variant);
+        Path path = resolve(variantKey);
+        try {
+            return Optional.of(new StoredBlob(variantKey, path, Files.size(path), CONTENT_TYPES.get("jpg")));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Map<String, Object> snapshotStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("stored", stored.sum());
+        stats.put("deduplicated", deduplicated.sum());
+        stats.put("bytesWritten", bytesWritten.sum());
+        return stats;
+    }
+
+    private static String variantKey(String key, String variant) {
+        return key.substring(0, key.indexOf('.')) + "." + variant + ".jpg";
+    }
+
+    // Two levels of fan-out keep directories small
+    private Path resolve(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
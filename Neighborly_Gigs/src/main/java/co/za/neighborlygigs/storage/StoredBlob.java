@@ -0,0 +1,16 @@
+package co.za.neighborlygigs.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+@Getter
+@AllArgsConstructor
+public class StoredBlob {
+    // "<sha256 hex>.<extension>"; never changes for the same bytes, so it doubles as the ETag
+    private final String key;
+    private final Path path;
+    private final long size;
+    private final String contentType;
+}
@@ -28,5 +28,18 @@ public class FileUploadUtil {
         return (lastDot > 0) ? fileName.substring(lastDot + 1).toLowerCase() : "";
     }
 
+    // Extension to store an allowed upload under, from its content type rather than the client's file name
+    public static String extensionFor(String contentType) {
+        if (contentType == null) return "";
+        return switch (contentType) {
+            case "image/jpeg", "image/jpg" -> "jpg";
+            case "image/png" -> "png";
+            case "application/pdf" -> "pdf";
+            case "application/msword" -> "doc";
+            case "application/vnd.openxmlformats-officedocument.wordprocessingml.document" -> "docx";
+            default -> "";
+        };
+    }
+
     private FileUploadUtil() {}
 }
@@ -1,5 +1,7 @@
 package co.za.neighborlygigs.util;
 
+import java.util.Locale;
+
 public class GeoCodingUtil {
 
     /**
@@ -11,7 +13,8 @@ public class GeoCodingUtil {
             throw new IllegalArgumentException("Address cannot be null or empty");
         }
         String cleaned = address.trim();
-        if (!cleaned.toLowerCase().contains("south africa") && !cleaned.toLowerCase().contains("za")) {
+        String lower = cleaned.toLowerCase(Locale.ROOT);
+        if (!lower.contains("south africa") && !lower.contains("za")) {
             cleaned += ", South Africa";
         }
         return cleaned;
@@ -1,6 +1,12 @@
 package co.za.neighborlygigs.util;
 
+import java.util.regex.Pattern;
+
 public class ValidationUtil {
+    // Compiled once; String.matches would recompile the regex on every call
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^(\\+?[0-9]{1,3})?([0-9]{10})$");
+
     public static boolean isNullOrEmpty(String str) {
         return str == null || str.isEmpty();
     }
@@ -12,8 +18,7 @@ public class ValidationUtil {
         if (email.isEmpty())
             return false;
 
-        String emailRegex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        return email.matches(emailRegex);
+        return EMAIL_PATTERN.matcher(email).matches();
     }
 
     public static boolean isValidPhone(String phone) {
@@ -22,9 +27,7 @@ public class ValidationUtil {
         phone = phone.trim();
         if (phone.isEmpty()) return false;
 
-
-        String phoneRegex = "^(\\+?[0-9]{1,3})?([0-9]{10})$";
-        return phone.matches(phoneRegex);
+        return PHONE_PATTERN.matcher(phone).matches();
     }
 
     public static String generateId() {
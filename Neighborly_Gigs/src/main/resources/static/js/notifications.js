@@ -0,0 +1,14 @@
+// Keeps the navbar notification badge in sync with the server's unread count (Server-Sent Events).
+// EventSource reconnects on its own after network drops or server restarts.
+(function () {
+    var badge = document.getElementById('unread-badge');
+    if (!badge || !window.EventSource) {
+        return;
+    }
+    var source = new EventSource('/notifications/stream');
+    source.addEventListener('unread', function (event) {
+        var count = parseInt(event.data, 10) || 0;
+        badge.classList.toggle('hidden', count === 0);
+        badge.title = count + ' unread';
+    });
+})();
@@ -0,0 +1,81 @@
+package co.za.neighborlygigs.cache;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.event.TaskClosedEvent;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class OpenTaskBoardCacheTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User poster;
+
+    @BeforeEach
+    void seed() {
+        poster = userRepository.save(User.builder()
+                .email("board-cache-poster@example.com")
+                .password("secret")
+                .firstName("Board")
+                .lastName("Cache")
+                .role(Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAll(taskRepository.findByPoster_Id(poster.getId()));
+        userRepository.delete(poster);
+    }
+
+    @Test
+    void closuresRefillThePrefixFromOlderOpenTasks() {
+        // Newest last; with nothing newer in the database these are the top of the board
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(taskRepository.save(TaskFactory.createTask("Task " + i, "Description", TaskCategory.ERRANDS,
+                    new BigDecimal("100.00"), "Sandton, South Africa", null, poster)).getId());
+        }
+        OpenTaskBoardCache cache = new OpenTaskBoardCache(taskRepository, 4);
+        assertEquals(ids.subList(4, 8).reversed(), ids(cache.openCards()));
+
+        // One closure leaves three of four: still three quarters, so no reload
+        close(cache, ids.get(7));
+        assertEquals(List.of(ids.get(6), ids.get(5), ids.get(4)), ids(cache.openCards()));
+        // Below it, the next read fills the prefix back up with older open tasks
+        close(cache, ids.get(6));
+        assertEquals(ids.subList(2, 6).reversed(), ids(cache.openCards()));
+    }
+
+    private void close(OpenTaskBoardCache cache, Long taskId) {
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        task.setStatus(TaskStatus.CANCELLED);
+        taskRepository.save(task);
+        cache.onTaskClosed(new TaskClosedEvent(taskId, TaskStatus.CANCELLED, null));
+    }
+
+    private static List<Long> ids(List<TaskCard> cards) {
+        return cards.stream().map(TaskCard::getId).toList();
+    }
+}
@@ -0,0 +1,41 @@
+package co.za.neighborlygigs.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void reportsEndpointLatencyAndSqlToAdmins() throws Exception {
+        mockMvc.perform(get("/dashboard").with(user("viewer@example.com")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/admin/metrics").with(user("admin@example.com").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.endpoints['GET /dashboard'].count").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.endpoints['GET /dashboard'].maxStatements").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.sql.statements.count").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.caches.taskBoard.hitRate").exists())
+                .andExpect(jsonPath("$.outbox.sendLatency").exists());
+    }
+
+    @Test
+    void metricsAreAdminOnly() throws Exception {
+        mockMvc.perform(get("/admin/metrics").with(user("viewer@example.com")))
+                .andExpect(status().isForbidden());
+    }
+}
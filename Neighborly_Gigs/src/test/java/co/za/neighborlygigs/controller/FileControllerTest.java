@@ -0,0 +1,142 @@
+package co.za.neighborlygigs.controller;
+
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.repository.UserRepository;
+import co.za.neighborlygigs.security.CustomUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FileControllerTest {
+    private static final byte[] CV = "%PDF-1.4 a short curriculum vitae".getBytes(StandardCharsets.US_ASCII);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void createUser() {
+        owner = userRepository.findByEmail("cv-owner@example.com").orElseGet(() -> userRepository.save(User.builder()
+                .email("cv-owner@example.com")
+                .password("secret")
+                .firstName("Cv")
+                .lastName("Owner")
+                .role(Role.USER)
+                .build()));
+    }
+
+    @Test
+    void storesUploadOnceAndServesRanges() throws Exception {
+        String url = uploadCv();
+        assertTrue(url.matches("/files/[0-9a-f]{64}\\.pdf"), url);
+        // Same bytes again: same content address
+        assertEquals(url, uploadCv());
+
+        mockMvc.perform(get(url).with(user("viewer@example.com")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/pdf"))
+                .andExpect(header().string("Cache-Control", "private, max-age=31536000, immutable"))
+                .andExpect(content().bytes(CV));
+
+        mockMvc.perform(get(url).header("Range", "bytes=0-7").with(user("viewer@example.com")))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 0-7/" + CV.length))
+                .andExpect(content().string("%PDF-1.4"));
+
+        mockMvc.perform(get(url).header("Range", "bytes=" + CV.length + "-").with(user("viewer@example.com")))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */" + CV.length));
+
+        String etag = "\"" + url.substring("/files/".length()) + "\"";
+        mockMvc.perform(get(url).header("If-None-Match", etag).with(user("viewer@example.com")))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void servesTheSmallestFittingRendition() throws Exception {
+        BufferedImage photo = new BufferedImage(1200, 800, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(photo, "png", png);
+        mockMvc.perform(multipart("/profile/picture")
+                        .file(new MockMultipartFile("file", "me.png", "image/png", png.toByteArray()))
+                        .with(user(CustomUserDetails.create(owner)))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        String url = userRepository.findById(owner.getId()).orElseThrow().getProfilePictureUrl();
+
+        assertEquals(128, renderedWidth(url + "?w=100"));
+        assertEquals(512, renderedWidth(url + "?w=300"));
+        // Wider than every rendition: the original
+        assertEquals(1200, renderedWidth(url + "?w=2000"));
+    }
+
+    @Test
+    void standInOriginalIsNotCachedAsTheRendition() throws Exception {
+        // Named .png but not an image, so its renditions can never be made
+        mockMvc.perform(multipart("/profile/picture")
+                        .file(new MockMultipartFile("file", "broken.png", "image/png", CV))
+                        .with(user(CustomUserDetails.create(owner)))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        String url = userRepository.findById(owner.getId()).orElseThrow().getProfilePictureUrl();
+
+        mockMvc.perform(get(url + "?w=100").with(user("viewer@example.com")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "private, no-cache"))
+                .andExpect(content().bytes(CV));
+        // Without ?w= it is the original, which never changes
+        mockMvc.perform(get(url).with(user("viewer@example.com")))
+                .andExpect(header().string("Cache-Control", "private, max-age=31536000, immutable"));
+    }
+
+    @Test
+    void unknownOrMalformedKeysAreNotFound() throws Exception {
+        mockMvc.perform(get("/files/{key}", "passwd").with(user("viewer@example.com")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/files/{key}", "0".repeat(64) + ".pdf").with(user("viewer@example.com")))
+                .andExpect(status().isNotFound());
+    }
+
+    private int renderedWidth(String url) throws Exception {
+        byte[] body = mockMvc.perform(get(url).with(user("viewer@example.com")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "private, max-age=31536000, immutable"))
+                .andReturn().getResponse().getContentAsByteArray();
+        return ImageIO.read(new ByteArrayInputStream(body)).getWidth();
+    }
+
+    private String uploadCv() throws Exception {
+        mockMvc.perform(multipart("/profile/cv")
+                        .file(new MockMultipartFile("file", "cv.pdf", "application/pdf", CV))
+                        .with(user(CustomUserDetails.create(owner)))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        return userRepository.findById(owner.getId()).orElseThrow().getCvUrl();
+    }
+}
@@ -0,0 +1,97 @@
+package co.za.neighborlygigs.controller;
+
+import co.za.neighborlygigs.cache.OpenTaskBoardCache;
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JobBoardQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private OpenTaskBoardCache boardCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seedBoard() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        // Several distinct posters, so a lazy poster load would show up as extra statements
+        for (int i = 0; i < 5; i++) {
+            User poster = userRepository.save(User.builder()
+                    .email("poster" + i + "@example.com")
+                    .password("secret")
+                    .firstName("Poster" + i)
+                    .lastName("Test")
+                    .role(Role.USER)
+                    .build());
+            for (int j = 0; j < 4; j++) {
+                Task task = TaskFactory.createTask("Task " + i + "-" + j, "Description", TaskCategory.CLEANING,
+                        new BigDecimal("150.00"), "Sandton, South Africa", null, poster);
+                taskRepository.save(task);
+            }
+        }
+        // Rows were written straight through the repositories, so start from a cold board
+        boardCache.invalidate();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void jobBoardRendersInOneStatement() throws Exception {
+        mockMvc.perform(get("/tasks").with(user("viewer@example.com")))
+                .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void warmJobBoardRendersWithoutTouchingTheDatabase() throws Exception {
+        mockMvc.perform(get("/tasks").with(user("viewer@example.com")))
+                .andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(get("/tasks").with(user("viewer@example.com")))
+                .andExpect(status().isOk());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void dashboardFeedRendersInOneStatement() throws Exception {
+        mockMvc.perform(get("/dashboard").with(user("viewer@example.com")))
+                .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,160 @@
+package co.za.neighborlygigs.controller;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Page views per second with a few thousand concurrent users, against a real Tomcat on a random port.
+ * Each simulated user opens task detail pages (a DB read each) with a short think time in between.
+ *
+ * Run once per thread model and compare:
+ *   mvn test -Dtest=ThreadModelBenchmark -Dbenchmark=true -Dspring.threads.virtual.enabled=false
+ *   mvn test -Dtest=ThreadModelBenchmark -Dbenchmark=true -Dspring.threads.virtual.enabled=true
+ * Optional: -Dusers=3000 -DdurationSeconds=20
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ThreadModelBenchmark {
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final int TASKS = 50;
+    private static final long THINK_MILLIS = 100;
+
+    @LocalServerPort
+    private int port;
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void pageViewsPerSecondUnderConcurrentUsers() throws Exception {
+        int users = Integer.getInteger("users", 2000);
+        long durationMillis = Long.getLong("durationSeconds", 15) * 1000;
+        List<Long> taskIds = seed();
+
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        logIn(client);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.currentTimeMillis() + durationMillis;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                clients.submit(() -> {
+                    while (System.currentTimeMillis() < deadline) {
+                        Long taskId = taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+                        HttpRequest request = HttpRequest.newBuilder(uri("/tasks/" + taskId))
+                                .timeout(Duration.ofSeconds(30)).GET().build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.add(System.nanoTime() - start);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        try {
+                            Thread.sleep(THINK_MILLIS);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(durationMillis + 60_000, TimeUnit.MILLISECONDS);
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("%s threads, %d users: %,.0f pages/s, p50 %d ms, p99 %d ms, %d errors%n",
+                virtualThreads ? "Virtual" : "Platform", users,
+                sorted.size() * 1000.0 / durationMillis,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), errors.get());
+    }
+
+    private List<Long> seed() {
+        User poster = userRepository.save(User.builder()
+                .email("load-poster@example.com").password(passwordEncoder.encode("secret123"))
+                .firstName("Load").lastName("Poster").role(Role.USER).build());
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            Task task = TaskFactory.createTask("Load task " + i, "Description", TaskCategory.CLEANING,
+                    new BigDecimal("150.00"), "Sandton, South Africa", null, poster);
+            ids.add(taskRepository.save(task).getId());
+        }
+        return ids;
+    }
+
+    // One form login; every simulated user then shares the session cookie
+    private void logIn(HttpClient client) throws Exception {
+        HttpResponse<String> page = client.send(HttpRequest.newBuilder(uri("/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher csrf = CSRF_TOKEN.matcher(page.body());
+        String form = "username=" + URLEncoder.encode("load-poster@example.com", StandardCharsets.UTF_8)
+                + "&password=secret123"
+                + (csrf.find() ? "&_csrf=" + URLEncoder.encode(csrf.group(1), StandardCharsets.UTF_8) : "");
+        HttpResponse<Void> login = client.send(HttpRequest.newBuilder(uri("/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form)).build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertEquals("/dashboard", URI.create(login.headers().firstValue("Location").orElse("")).getPath());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentile(List<Long> sorted, double fraction) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(sorted.size() * fraction) - 1);
+        return sorted.get(Math.max(0, index)) / 1_000_000;
+    }
+}
@@ -0,0 +1,134 @@
+package co.za.neighborlygigs.controller;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.Transaction;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.factory.TransactionFactory;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.TransactionRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionExportTest {
+    private static final String ADMIN = "finance@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private User poster;
+    private User worker;
+    private Transaction leakyTap;
+    private Transaction formula;
+
+    @BeforeEach
+    void seed() {
+        poster = userRepository.save(newUser("export-poster@example.com", "Export"));
+        worker = userRepository.save(newUser("export-worker@example.com", "Sipho"));
+        transaction("Paint the fence", LocalDateTime.of(2026, 8, 31, 23, 59));
+        leakyTap = transaction("Fix \"leaky\" tap, kitchen", LocalDateTime.of(2026, 9, 1, 0, 0));
+        formula = transaction("=HYPERLINK(\"http://example.com\")", LocalDateTime.of(2026, 9, 30, 12, 0));
+        transaction("Mow the lawn", LocalDateTime.of(2026, 10, 1, 0, 0));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionRepository.deleteAllInBatch();
+        taskRepository.deleteAll(taskRepository.findByPoster_Id(poster.getId()));
+        userRepository.deleteAll(List.of(poster, worker));
+    }
+
+    @Test
+    void exportsOneMonthAsCsv() throws Exception {
+        String csv = mockMvc.perform(get("/admin/exports/transactions.csv").param("month", "2026-09")
+                        .with(user(ADMIN).roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions-2026-09.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = csv.split("\r\n");
+        assertEquals(3, lines.length, csv);
+        assertEquals("transaction_id,created_at,settled_at,status,total_amount,platform_fee,payout_to_completer," +
+                "payment_reference,task_id,task_title,completer_id,completer_name,completer_email", lines[0]);
+        // Title quoted for its comma and quotes; amounts are the cents split of 1249.99
+        assertEquals(leakyTap.getId() + ",2026-09-01T00:00:00,,PENDING,1249.99,250.00,999.99,," + leakyTap.getTask().getId()
+                + ",\"Fix \"\"leaky\"\" tap, kitchen\"," + worker.getId() + ",Sipho Test,export-worker@example.com", lines[1]);
+        // A title a spreadsheet would evaluate is neutralised
+        assertEquals(formula.getId() + ",2026-09-30T12:00:00,,PENDING,1249.99,250.00,999.99,," + formula.getTask().getId()
+                + ",\"'=HYPERLINK(\"\"http://example.com\"\")\"," + worker.getId() + ",Sipho Test,export-worker@example.com", lines[2]);
+    }
+
+    @Test
+    void gzipAndDateRangeGiveTheSameRows() throws Exception {
+        byte[] plain = mockMvc.perform(get("/admin/exports/transactions.csv")
+                        .param("from", "2026-09-01").param("to", "2026-10-01")
+                        .with(user(ADMIN).roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] gzipped = mockMvc.perform(get("/admin/exports/transactions.csv").param("month", "2026-09").param("gzip", "true")
+                        .with(user(ADMIN).roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertEquals(new String(plain, StandardCharsets.UTF_8), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void exportIsAdminOnly() throws Exception {
+        mockMvc.perform(get("/admin/exports/transactions.csv").with(user("viewer@example.com")))
+                .andExpect(status().isForbidden());
+    }
+
+    private Transaction transaction(String title, LocalDateTime createdAt) {
+        Task task = TaskFactory.createTask(title, "Description", TaskCategory.CLEANING, new BigDecimal("1249.99"),
+                "Sandton, South Africa", null, poster);
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setAssignedTo(worker);
+        Transaction transaction = TransactionFactory.createTransaction(taskRepository.save(task));
+        transaction.setCreatedAt(createdAt);
+        return transactionRepository.save(transaction);
+    }
+
+    private static User newUser(String email, String firstName) {
+        return User.builder()
+                .email(email)
+                .password("secret")
+                .firstName(firstName)
+                .lastName("Test")
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+package co.za.neighborlygigs.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two separate embedded databases stand in for the primary and the replica. Each holds one row
+ * naming itself, so a query shows which side served it; "replication" is the test copying the
+ * heartbeat row across, or not.
+ */
+class ReadWriteRoutingTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLagMonitor monitor;
+    private ReadWriteRoutingDataSource routing;
+    private LazyConnectionDataSourceProxy dataSource;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("routing_primary", "primary");
+        replica = database("routing_replica", "replica");
+        monitor = new ReplicaLagMonitor(primary, replica, 5_000);
+        routing = new ReadWriteRoutingDataSource(primary, replica, monitor);
+        dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // In-memory databases go with their last connection
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaOnlyWhileItKeepsUp() {
+        // Nothing is known about the replica until a check has read a heartbeat from it
+        assertEquals("primary", readOnlyOrigin());
+        monitor.check();
+        assertFalse(monitor.isReplicaUsable());
+        assertEquals("primary", readOnlyOrigin());
+
+        replicateHeartbeat(0);
+        monitor.check();
+        assertTrue(monitor.isReplicaUsable());
+        assertEquals("replica", readOnlyOrigin());
+        assertEquals("primary", readWrite.execute(status -> origin()));
+        // Snapshot loads stay on the primary inside a read-only transaction
+        assertEquals("primary", readOnly.execute(status -> PrimaryReads.call(this::origin)));
+
+        // Replication stalls a minute behind
+        replicateHeartbeat(60_000);
+        monitor.check();
+        assertFalse(monitor.isReplicaUsable());
+        assertTrue(monitor.getLagMillis() >= 60_000);
+        assertEquals("primary", readOnlyOrigin());
+    }
+
+    @Test
+    void replicaOutageFallsBackToThePrimary() {
+        monitor.check();
+        replicateHeartbeat(0);
+        monitor.check();
+        assertEquals("replica", readOnlyOrigin());
+        long unusable = monitor.getUnusableCount();
+
+        replica.close();
+        assertEquals("primary", readOnlyOrigin());
+        assertFalse(monitor.isReplicaUsable());
+        assertEquals(1L, routing.snapshotStats().get("replicaReads"));
+        assertEquals(1L, routing.snapshotStats().get("primaryReads"));
+
+        // Later reads go straight to the primary, without trying the replica each time
+        assertEquals("primary", readOnlyOrigin());
+        assertEquals(2L, routing.snapshotStats().get("primaryReads"));
+        assertEquals(unusable + 1, monitor.getUnusableCount());
+    }
+
+    @Test
+    void openInViewEntityManagerRoutesEveryTransactionOnItsOwn() {
+        monitor.check();
+        replicateHeartbeat(0);
+        monitor.check();
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // No entities needed: native queries go through the EntityManager's connection all the same
+        factoryBean.setPackagesToScan(ReadWriteRoutingTest.class.getPackageName());
+        Map<String, Object> properties = new HashMap<>();
+        new ReplicaRoutingConfig().releaseConnectionAfterTransaction().customize(properties);
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        // What OpenEntityManagerInViewInterceptor does: one EntityManager for the whole request
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+            TransactionTemplate jpaReadOnly = new TransactionTemplate(transactionManager);
+            jpaReadOnly.setReadOnly(true);
+            TransactionTemplate jpaReadWrite = new TransactionTemplate(transactionManager);
+            Supplier<String> origin = () -> (String) entityManager.createNativeQuery("SELECT name FROM origin")
+                    .getSingleResult();
+
+            // A read-only lookup first, as GET /tasks/{id} does, must not carry the replica into what follows
+            assertEquals("replica", jpaReadOnly.execute(status -> origin.get()));
+            assertEquals("primary", jpaReadWrite.execute(status -> origin.get()));
+            assertEquals("primary", PrimaryReads.call(() -> jpaReadOnly.execute(status -> origin.get())));
+            assertEquals("replica", jpaReadOnly.execute(status -> origin.get()));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+            entityManagerFactory.close();
+        }
+    }
+
+    @Test
+    void sessionReadsItsOwnWritesFromThePrimary() throws Exception {
+        monitor.check();
+        replicateHeartbeat(0);
+        monitor.check();
+        RecentWriteFilter filter = new RecentWriteFilter(6_000);
+        MockHttpSession session = new MockHttpSession();
+
+        assertEquals("replica", originThrough(filter, "GET", session));
+        // A form post, then the page it redirects to
+        assertEquals("primary", originThrough(filter, "POST", session));
+        assertEquals("primary", originThrough(filter, "GET", session));
+        assertEquals("replica", originThrough(filter, "GET", new MockHttpSession()));
+        assertEquals("replica", originThrough(filter, "GET", null));
+        assertEquals(2, filter.getPrimaryRequestCount());
+
+        // Once the replica must have caught up, the session is back on it
+        session.setAttribute(RecentWriteFilter.LAST_WRITE_ATTRIBUTE, System.currentTimeMillis() - 6_001);
+        assertEquals("replica", originThrough(filter, "GET", session));
+    }
+
+    // Where a read-only transaction inside the request is served from
+    private String originThrough(RecentWriteFilter filter, String method, MockHttpSession session) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/tasks/1");
+        request.setSession(session);
+        String[] origin = new String[1];
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> origin[0] = readOnlyOrigin());
+        return origin[0];
+    }
+
+    private String readOnlyOrigin() {
+        return readOnly.execute(status -> origin());
+    }
+
+    private String origin() {
+        return jdbc.queryForObject("SELECT name FROM origin", String.class);
+    }
+
+    // Copies the primary's heartbeat to the replica, backdated to look that far behind
+    private void replicateHeartbeat(long behindMillis) {
+        long beat = new JdbcTemplate(primary).queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Long.class);
+        JdbcTemplate target = new JdbcTemplate(replica);
+        target.execute("CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT NOT NULL PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        target.update("DELETE FROM replication_heartbeat");
+        target.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", beat - behindMillis);
+    }
+
+    private static HikariDataSource database(String name, String origin) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MySQL");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setConnectionTimeout(1_000);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE origin (name VARCHAR(16) NOT NULL)");
+        jdbc.update("INSERT INTO origin (name) VALUES (?)", origin);
+        return dataSource;
+    }
+}
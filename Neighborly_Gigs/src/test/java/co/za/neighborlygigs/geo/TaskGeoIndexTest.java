@@ -0,0 +1,105 @@
+package co.za.neighborlygigs.geo;
+
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.event.TaskOpenedEvent;
+import co.za.neighborlygigs.metrics.LatencyHistogram;
+import co.za.neighborlygigs.money.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The grid index against a brute-force scan of the same tasks, and (opt-in) its query latency at
+ * 100k open tasks. Tasks are scattered around Johannesburg, denser in the middle as real postings are.
+ */
+class TaskGeoIndexTest {
+    private static final double CENTRE_LAT = -26.2041;
+    private static final double CENTRE_LON = 28.0473;
+
+    private final Random random = new Random(5);
+
+    @Test
+    void matchesABruteForceScan() {
+        List<TaskCard> cards = scatter(20_000);
+        TaskGeoIndex index = indexOf(cards);
+
+        for (int i = 0; i < 200; i++) {
+            GeoPoint origin = near();
+            double radiusKm = 1 + random.nextDouble() * 30;
+
+            List<TaskCard> expected = new ArrayList<>();
+            for (TaskCard card : cards) {
+                double distance = origin.distanceKmTo(card.getLatitude(), card.getLongitude());
+                if (distance <= radiusKm) {
+                    expected.add(card.withDistance(distance));
+                }
+            }
+            expected.sort(Comparator.comparingDouble(TaskCard::getDistanceKm));
+            List<TaskCard> found = index.findNearby(origin, radiusKm, 50);
+
+            assertEquals(ids(expected.subList(0, Math.min(50, expected.size()))), ids(found));
+        }
+    }
+
+    // Timing is machine-dependent, so opt-in: mvn test -Dtest=TaskGeoIndexTest -Dbenchmark=true
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void radiusQueryIsSubMillisecondAtHundredThousandTasks() {
+        TaskGeoIndex index = indexOf(scatter(100_000));
+        assertEquals(100_000, index.size());
+
+        // Warm up, then measure a 10 km search from random places in the city
+        for (int i = 0; i < 20_000; i++) {
+            index.findNearby(near(), 10, 20);
+        }
+        LatencyHistogram latency = new LatencyHistogram();
+        for (int i = 0; i < 20_000; i++) {
+            GeoPoint origin = near();
+            long start = System.nanoTime();
+            index.findNearby(origin, 10, 20);
+            latency.record(System.nanoTime() - start);
+        }
+        Map<String, Object> stats = latency.snapshot();
+        System.out.println("10 km radius over 100k open tasks: " + stats);
+        assertTrue((double) stats.get("p50Millis") < 1.0, () -> "p50 " + stats.get("p50Millis") + " ms");
+    }
+
+    private List<TaskCard> scatter(int count) {
+        List<TaskCard> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // About 50 km across, a quarter of the tasks spread over the wider province
+            double spread = i % 4 == 0 ? 1.0 : 0.25;
+            cards.add(new TaskCard((long) i + 1, "Task " + i, "Description", TaskCategory.CLEANING, Money.ofCents(20_000),
+                    "Johannesburg", null, CENTRE_LAT + random.nextGaussian() * spread,
+                    CENTRE_LON + random.nextGaussian() * spread, LocalDateTime.now(), 1L, "Poster", "Test"));
+        }
+        return cards;
+    }
+
+    private GeoPoint near() {
+        return new GeoPoint(CENTRE_LAT + random.nextGaussian() * 0.2, CENTRE_LON + random.nextGaussian() * 0.2);
+    }
+
+    private static TaskGeoIndex indexOf(List<TaskCard> cards) {
+        // Fed through the open-task event, as after startup; the repository is only used by rebuild()
+        TaskGeoIndex index = new TaskGeoIndex(null);
+        for (TaskCard card : cards) {
+            index.onTaskOpened(new TaskOpenedEvent(card));
+        }
+        return index;
+    }
+
+    private static List<Long> ids(List<TaskCard> cards) {
+        return cards.stream().map(TaskCard::getId).toList();
+    }
+}
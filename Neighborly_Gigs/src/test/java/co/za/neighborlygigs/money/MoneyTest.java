@@ -0,0 +1,115 @@
+package co.za.neighborlygigs.money;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.Transaction;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.factory.TransactionFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Property checks: for many random inputs, the cents arithmetic gives exactly what the BigDecimal
+ * code it replaced gives. The seed is fixed so a failure names a reproducible input.
+ */
+class MoneyTest {
+    private static final int SAMPLES = 200_000;
+    // DECIMAL(10,2): the largest amount the columns hold, in cents
+    private static final long MAX_CENTS = 99_999_999_99L;
+    private static final BigDecimal PLATFORM_FEE_RATE = new BigDecimal("0.20");
+
+    private final Random random = new Random(20_251_018L);
+
+    @Test
+    void feeSplitMatchesTheBigDecimalCalculation() {
+        User poster = User.builder().id(1L).email("poster@example.com").firstName("Thandi").lastName("Mokoena").build();
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal budget = BigDecimal.valueOf(randomCents(0), 2);
+            Task task = TaskFactory.createTask("Task", "Description", TaskCategory.CLEANING, budget, "Sandton", null, poster);
+
+            Transaction transaction = TransactionFactory.createTransaction(task);
+
+            // TransactionFactory before the cents fast path
+            BigDecimal fee = budget.multiply(PLATFORM_FEE_RATE).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal payout = budget.subtract(fee).setScale(2, RoundingMode.HALF_UP);
+            assertEquals(budget, transaction.getTotalAmount().getAmount(), budget::toPlainString);
+            assertEquals(fee, transaction.getPlatformFee().getAmount(), budget::toPlainString);
+            assertEquals(payout, transaction.getPayoutToCompleter().getAmount(), budget::toPlainString);
+        }
+    }
+
+    @Test
+    void shareRoundsHalfUpLikeSetScale() {
+        for (int i = 0; i < SAMPLES; i++) {
+            long cents = randomCents(-MAX_CENTS);
+            // Odd cents at 50% and similar rates land exactly on half a cent
+            int basisPoints = i % 10 == 0 ? 5_000 : random.nextInt(10_001);
+
+            BigDecimal expected = BigDecimal.valueOf(cents, 2)
+                    .multiply(BigDecimal.valueOf(basisPoints, 4))
+                    .setScale(2, RoundingMode.HALF_UP);
+            assertEquals(expected, Money.ofCents(cents).share(basisPoints).getAmount(), () -> cents + " x " + basisPoints);
+        }
+    }
+
+    @Test
+    void convertingFromBigDecimalRoundsHalfUpToTheCent() {
+        for (int i = 0; i < SAMPLES; i++) {
+            // Up to six decimals, as a form or a division might produce
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(-MAX_CENTS * 10_000, MAX_CENTS * 10_000), random.nextInt(7));
+
+            assertEquals(amount.setScale(2, RoundingMode.HALF_UP), Money.of(amount).getAmount(), amount::toPlainString);
+        }
+        assertEquals(Money.ofCents(1), Money.of(new BigDecimal("0.005")));
+        assertEquals(Money.ofCents(-1), Money.of(new BigDecimal("-0.005")));
+        assertEquals(Money.ZERO, Money.of(new BigDecimal("0.0049")));
+    }
+
+    @Test
+    void totalsMatchBigDecimalSums() {
+        for (int run = 0; run < 200; run++) {
+            Money total = Money.ZERO;
+            BigDecimal expected = BigDecimal.ZERO.setScale(2);
+            for (int i = 0; i < 1_000; i++) {
+                long cents = randomCents(-MAX_CENTS);
+                total = total.plus(Money.ofCents(cents));
+                expected = expected.add(BigDecimal.valueOf(cents, 2));
+            }
+            assertEquals(expected, total.getAmount());
+            assertEquals(expected.toPlainString(), total.toString());
+        }
+    }
+
+    @Test
+    void converterRoundTripsColumnValues() {
+        MoneyConverter converter = new MoneyConverter();
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal column = BigDecimal.valueOf(randomCents(-MAX_CENTS), 2);
+
+            Money money = converter.convertToEntityAttribute(column);
+            assertEquals(column, converter.convertToDatabaseColumn(money));
+        }
+    }
+
+    @Test
+    void overflowThrowsInsteadOfWrapping() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> max.share(2_000));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e30")));
+    }
+
+    private long randomCents(long min) {
+        // Mostly everyday amounts, sometimes anywhere up to the column limit
+        return random.nextInt(4) == 0
+                ? random.nextLong(min, MAX_CENTS + 1)
+                : random.nextLong(Math.max(min, -100_000_00L), 100_000_00L);
+    }
+}
@@ -0,0 +1,98 @@
+package co.za.neighborlygigs.notification;
+
+import co.za.neighborlygigs.event.NotificationsCreatedEvent;
+import co.za.neighborlygigs.event.NotificationsReadEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Notifications committing while a user's count is first loaded. The stand-in query plays the
+ * database: it fires the notification event mid-query and returns what the COUNT would have seen.
+ */
+class UnreadNotificationCounterTest {
+    private static final Long USER = 7L;
+
+    private final List<Long> pushed = new ArrayList<>();
+    private final NotificationStreamHub hub = new NotificationStreamHub(60_000) {
+        @Override
+        public void publishUnreadCount(Long userId, long unreadCount) {
+            pushed.add(unreadCount);
+        }
+    };
+
+    private UnreadNotificationCounter counter;
+
+    @Test
+    void notificationCommittedAfterTheQueryIsNotLost() {
+        // 3 unread when the COUNT runs; a fourth commits and fires its event before the count is stored
+        counter = new UnreadNotificationCounter(queries(call -> {
+            if (call == 0) {
+                created();
+            }
+        }, 3, 4), hub);
+        assertEquals(4, counter.getUnreadCount(USER));
+        // Nothing is pushed for a count that is still loading
+        assertEquals(List.of(), pushed);
+
+        created();
+        assertEquals(5, counter.getUnreadCount(USER));
+        assertEquals(List.of(5L), pushed);
+    }
+
+    @Test
+    void notificationCommittedBeforeTheQueryIsNotCountedTwice() {
+        // The fourth is already in the COUNT, but its event only fires once the entry exists
+        counter = new UnreadNotificationCounter(queries(call -> {
+            if (call == 0) {
+                created();
+            }
+        }, 4, 4), hub);
+        assertEquals(4, counter.getUnreadCount(USER));
+    }
+
+    @Test
+    void markingReadDuringTheLoadIsKept() {
+        counter = new UnreadNotificationCounter(queries(call -> {
+            if (call == 0) {
+                counter.onNotificationsRead(new NotificationsReadEvent(USER));
+                created();
+            }
+        }, 3, 1), hub);
+        assertEquals(1, counter.getUnreadCount(USER));
+    }
+
+    @Test
+    void eventsDuringEveryAttemptAreAddedToTheLast() {
+        counter = new UnreadNotificationCounter(queries(call -> created(), 3, 4, 5), hub);
+        assertEquals(6, counter.getUnreadCount(USER));
+    }
+
+    @Test
+    void untrackedUsersAreNotCountedUntilAsked() {
+        counter = new UnreadNotificationCounter(userId -> 2, hub);
+        created();
+        assertEquals(List.of(), pushed);
+        assertEquals(2, counter.getUnreadCount(USER));
+        assertEquals(1, counter.trackedUsers());
+    }
+
+    private void created() {
+        counter.onNotificationsCreated(new NotificationsCreatedEvent(List.of(USER)));
+    }
+
+    // Answers one count per query in turn, running during(call) while each query is "in flight"
+    private static ToLongFunction<Long> queries(IntConsumer during, long... answers) {
+        int[] calls = {0};
+        return userId -> {
+            int call = calls[0]++;
+            during.accept(call);
+            return answers[call];
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package co.za.neighborlygigs.recommend;
+
+import co.za.neighborlygigs.cache.OpenTaskBoardCache;
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.repository.NotificationRepository;
+import co.za.neighborlygigs.repository.OutboxEmailRepository;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.UserCategoryJobsRepository;
+import co.za.neighborlygigs.repository.UserReputationRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import co.za.neighborlygigs.service.ApplicationService;
+import co.za.neighborlygigs.service.ReputationService;
+import co.za.neighborlygigs.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TaskRecommendationsTest {
+
+    @Autowired
+    private TaskRecommendations recommendations;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private ReputationService reputationService;
+    @Autowired
+    private OpenTaskBoardCache boardCache;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UserReputationRepository reputationRepository;
+    @Autowired
+    private UserCategoryJobsRepository categoryJobsRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User poster;
+    private User worker;
+    private User other;
+
+    @BeforeEach
+    void seed() {
+        poster = userRepository.save(user("recommend-poster@example.com"));
+        worker = userRepository.save(user("recommend-worker@example.com"));
+        other = userRepository.save(user("recommend-other@example.com"));
+        // Three cleaning jobs done around Sandton
+        for (int i = 0; i < 3; i++) {
+            Task job = TaskFactory.createTask("Earlier job", "Done", TaskCategory.CLEANING, new BigDecimal("150.00"),
+                    "Sandton, South Africa", null, poster);
+            job.setLatitude(-26.1076);
+            job.setLongitude(28.0567);
+            job.setStatus(TaskStatus.COMPLETED);
+            job.setAssignedTo(worker);
+            reputationService.recordCompletedJob(taskRepository.save(job));
+        }
+        // Earlier tests write tasks straight through repositories
+        boardCache.invalidate();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        recommendations.invalidate(worker.getId());
+        recommendations.invalidate(poster.getId());
+        notificationRepository.deleteAll();
+        outboxEmailRepository.deleteAll();
+        reputationRepository.deleteAllInBatch();
+        categoryJobsRepository.deleteAllInBatch();
+        taskRepository.deleteAll(taskRepository.findByPoster_Id(poster.getId()));
+        userRepository.deleteAll(List.of(poster, worker, other));
+        boardCache.invalidate();
+    }
+
+    @Test
+    void feedFollowsHistoryAndStaysCurrentWithoutRebuilding() {
+        Long cleaningNear = post(TaskCategory.CLEANING, "Rosebank, Johannesburg");
+        Long petCareNear = post(TaskCategory.PET_CARE, "Sandton, Johannesburg");
+        Long cleaningFar = post(TaskCategory.CLEANING, "Cape Town, Western Cape");
+
+        // Category affinity first, then distance
+        assertEquals(List.of(cleaningNear, cleaningFar, petCareNear), ours(recommendations.recommend(worker.getId(), 10),
+                cleaningNear, petCareNear, cleaningFar));
+
+        long builds = (long) recommendations.snapshotStats().get("builds");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // A newly posted task is slotted in by the event, not by rebuilding the feed
+        Long cleaningNewest = post(TaskCategory.CLEANING, "Rosebank, Johannesburg");
+        statistics.clear();
+        List<TaskCard> feed = recommendations.recommend(worker.getId(), 10);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(List.of(cleaningNewest, cleaningNear, cleaningFar, petCareNear),
+                ours(feed, cleaningNewest, cleaningNear, petCareNear, cleaningFar));
+
+        // Applying removes the task; assigning another to someone else removes it for everyone
+        applicationService.applyToTask(cleaningNewest, worker.getId(), null);
+        applicationService.applyToTask(cleaningNear, worker.getId(), null);
+        applicationService.applyToTask(cleaningFar, other.getId(), null);
+        taskService.assignTask(cleaningFar, other.getId(), poster.getId());
+        statistics.clear();
+        feed = recommendations.recommend(worker.getId(), 10);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(List.of(petCareNear), ours(feed, cleaningNewest, cleaningNear, petCareNear, cleaningFar));
+        assertEquals(builds, recommendations.snapshotStats().get("builds"));
+
+        // Nobody is recommended their own tasks
+        assertTrue(ours(recommendations.recommend(poster.getId(), 50), cleaningNear, petCareNear).isEmpty());
+        // And a rebuild from the database agrees with the incremental feed
+        recommendations.invalidate(worker.getId());
+        assertEquals(List.of(petCareNear), ours(recommendations.recommend(worker.getId(), 10),
+                cleaningNewest, cleaningNear, petCareNear, cleaningFar));
+    }
+
+    private Long post(TaskCategory category, String address) {
+        return taskService.createTask("Recommended " + category, "Description", category, new BigDecimal("200.00"),
+                address, null, poster.getId()).getId();
+    }
+
+    // The feed restricted to this test's tasks, in feed order
+    private static List<Long> ours(List<TaskCard> feed, Long... taskIds) {
+        Set<Long> wanted = Set.of(taskIds);
+        return feed.stream().map(TaskCard::getId).filter(wanted::contains).toList();
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("secret")
+                .firstName("Recommend")
+                .lastName("Test")
+                .role(Role.USER)
+                .build();
+    }
+}
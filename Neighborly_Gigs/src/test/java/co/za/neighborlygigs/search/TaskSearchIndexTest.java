@@ -0,0 +1,90 @@
+package co.za.neighborlygigs.search;
+
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.dto.TaskCard;
+import co.za.neighborlygigs.event.TaskClosedEvent;
+import co.za.neighborlygigs.event.TaskOpenedEvent;
+import co.za.neighborlygigs.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskSearchIndexTest {
+    // Fed through the open-task event, as after startup; the repository is only used by rebuild()
+    private final TaskSearchIndex index = new TaskSearchIndex(null);
+
+    @Test
+    void titleOutranksRequirementsOutranksDescription() {
+        open(1, "Weeding job", "Pull weeds from the garden beds", null);
+        open(2, "Garden cleanup", "Tidy up", null);
+        open(3, "Yard work", "Mow the lawn", "Own garden tools");
+
+        assertEquals(List.of(2L, 3L, 1L), search("garden"));
+    }
+
+    @Test
+    void everyWordMustMatch() {
+        open(1, "Garden cleanup", "Tidy the yard", null);
+        open(2, "Yard work", "Weed the garden", null);
+        open(3, "Garden design", "Plan new beds", null);
+
+        assertEquals(List.of(1L, 2L), search("garden yard").stream().sorted().toList());
+        assertEquals(List.of(), search("garden pool"));
+    }
+
+    @Test
+    void onlyTheLastWordMatchesAsAPrefix() {
+        open(1, "Plumber needed", "Leaking pipe under the sink", null);
+
+        assertEquals(List.of(1L), search("plum"));
+        assertEquals(List.of(1L), search("pipe plum"));
+        assertEquals(List.of(), search("plum pipe"));
+    }
+
+    @Test
+    void exactMatchOutranksAPrefixMatch() {
+        open(1, "Painting", "Two bedrooms", null);
+        open(2, "Paint fence", "Wooden fence", null);
+
+        assertEquals(List.of(2L, 1L), search("paint"));
+    }
+
+    @Test
+    void stopWordsAndShortTokensAreIgnored() {
+        assertEquals(List.of("fix", "ray", "machine", "2nd", "floor"),
+                TaskSearchIndex.tokenize("Fix the X-ray machine on my 2nd floor"));
+
+        open(1, "Fix the gate", "It is stuck", null);
+        assertEquals(List.of(), search("the"));
+        assertEquals(List.of(), search("a"));
+        assertEquals(List.of(1L), search("the gate"));
+    }
+
+    @Test
+    void closedTaskIsRemoved() {
+        open(1, "Dog walking", "Walk a labrador", null);
+        open(2, "Dog sitting", "Weekend stay", null);
+
+        index.onTaskClosed(new TaskClosedEvent(1L, TaskStatus.ASSIGNED, 7L));
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(2L), search("dog"));
+        // Terms only the closed task had are gone, prefixes included
+        assertEquals(List.of(), search("labrador"));
+        assertEquals(List.of(), search("lab"));
+    }
+
+    private void open(long id, String title, String description, String requirements) {
+        index.onTaskOpened(new TaskOpenedEvent(new TaskCard(id, title, description, TaskCategory.CLEANING,
+                Money.ofCents(20_000), "Johannesburg", requirements, null, null, LocalDateTime.now(),
+                1L, "Poster", "Test")));
+    }
+
+    private List<Long> search(String query) {
+        return index.search(query, 20).stream().map(TaskCard::getId).toList();
+    }
+}
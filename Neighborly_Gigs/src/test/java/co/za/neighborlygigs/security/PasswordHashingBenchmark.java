@@ -0,0 +1,85 @@
+package co.za.neighborlygigs.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Password checks per second at a fixed p99 budget, for rising numbers of concurrent logins:
+ * BCrypt on the caller's thread (what every Tomcat thread used to do) versus PooledPasswordEncoder.
+ *
+ * Run with: mvn test -Dtest=PasswordHashingBenchmark -Dbenchmark=true
+ * Rejected checks (pool full) count against the pooled encoder's throughput, not its latency.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PasswordHashingBenchmark {
+    private static final int STRENGTH = 10;
+    private static final long P99_BUDGET_MILLIS = 1_000;
+    private static final long RUN_MILLIS = 5_000;
+    private static final int[] CONCURRENCY = {1, 4, 16, 64};
+
+    @Test
+    void loginsPerSecondAtFixedP99() throws Exception {
+        String hash = new BCryptPasswordEncoder(STRENGTH).encode("correct horse battery staple");
+        int cores = Runtime.getRuntime().availableProcessors();
+        PooledPasswordEncoder pooled = new PooledPasswordEncoder(STRENGTH, Math.max(1, cores - 1), 64, 5_000);
+        try {
+            System.out.printf("%d cores, BCrypt cost %d, p99 budget %d ms%n", cores, STRENGTH, P99_BUDGET_MILLIS);
+            for (int threads : CONCURRENCY) {
+                report("caller thread", threads, run(new BCryptPasswordEncoder(STRENGTH), hash, threads));
+                report("pooled       ", threads, run(pooled, hash, threads));
+            }
+            System.out.println("Pool stats: " + pooled.snapshotStats());
+        } finally {
+            pooled.shutdown();
+        }
+    }
+
+    private static Result run(PasswordEncoder encoder, String hash, int threads) throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong rejected = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(threads);
+        long deadline = System.currentTimeMillis() + RUN_MILLIS;
+
+        for (int i = 0; i < threads; i++) {
+            Thread client = new Thread(() -> {
+                try {
+                    while (System.currentTimeMillis() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            encoder.matches("correct horse battery staple", hash);
+                            latencies.add(System.nanoTime() - start);
+                        } catch (PasswordHashingUnavailableException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+            client.start();
+        }
+        done.await();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = sorted.isEmpty() ? 0 : sorted.get((int) Math.min(sorted.size() - 1, Math.ceil(sorted.size() * 0.99) - 1));
+        return new Result(sorted.size() * 1000.0 / RUN_MILLIS, p99 / 1_000_000, rejected.get());
+    }
+
+    private static void report(String label, int threads, Result result) {
+        System.out.printf("%s x%-3d %7.1f logins/s  p99 %5d ms  rejected %d%s%n", label, threads,
+                result.perSecond, result.p99Millis, result.rejected,
+                result.p99Millis > P99_BUDGET_MILLIS ? "  (over p99 budget)" : "");
+    }
+
+    private record Result(double perSecond, long p99Millis, long rejected) {
+    }
+}
@@ -0,0 +1,207 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.Review;
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.dto.ApplicantPage;
+import co.za.neighborlygigs.dto.RankedApplicant;
+import co.za.neighborlygigs.factory.ApplicationFactory;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.metrics.LatencyHistogram;
+import co.za.neighborlygigs.repository.ApplicationRepository;
+import co.za.neighborlygigs.repository.ReviewRepository;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.UserCategoryJobsRepository;
+import co.za.neighborlygigs.repository.UserReputationRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ApplicantRankingTest {
+    // Sandton, and somewhere a long way from it
+    private static final double NEAR_LAT = -26.1076;
+    private static final double NEAR_LON = 28.0567;
+    private static final double FAR_LAT = -33.9249;
+    private static final double FAR_LON = 18.4241;
+
+    @Autowired
+    private ApplicantRankingService rankingService;
+    @Autowired
+    private ReputationService reputationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private UserReputationRepository reputationRepository;
+    @Autowired
+    private UserCategoryJobsRepository categoryJobsRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User poster;
+    private User client;
+    private final List<User> applicants = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        poster = userRepository.save(user("ranking-poster@example.com", "Poster"));
+        // Posts and reviews the applicants' earlier jobs
+        client = userRepository.save(user("ranking-client@example.com", "Client"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAllInBatch();
+        reputationRepository.deleteAllInBatch();
+        categoryJobsRepository.deleteAllInBatch();
+        taskRepository.deleteAll(taskRepository.findByPoster_Id(poster.getId()));
+        taskRepository.deleteAll(taskRepository.findByPoster_Id(client.getId()));
+        userRepository.deleteAll(applicants);
+        userRepository.deleteAll(List.of(poster, client));
+    }
+
+    @Test
+    void ranksByReputationCategoryExperienceAndDistanceInOneStatement() {
+        User veteran = applicant("Veteran");
+        history(veteran, TaskCategory.CLEANING, 12, 5, NEAR_LAT + 0.01, NEAR_LON);
+        // Just as well reviewed, but never cleaned for anyone
+        User specialist = applicant("Specialist");
+        history(specialist, TaskCategory.PET_CARE, 12, 5, NEAR_LAT, NEAR_LON + 0.01);
+        // A single five-star review should not outrank a long record
+        User lucky = applicant("Lucky");
+        history(lucky, TaskCategory.CLEANING, 1, 5, FAR_LAT, FAR_LON);
+        User newcomer = applicant("Newcomer");
+
+        Task task = postTask(poster, TaskCategory.CLEANING, NEAR_LAT, NEAR_LON);
+        // Applied worst-first, so arrival order alone would give the opposite ranking
+        for (User applicant : List.of(newcomer, lucky, specialist, veteran)) {
+            applicationRepository.save(ApplicationFactory.createApplication(task, applicant));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ApplicantPage ranked = rankingService.rankApplicants(task, 0, 20);
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        assertEquals(List.of("Veteran", "Specialist", "Lucky", "Newcomer"), names(ranked));
+        RankedApplicant best = ranked.getApplicants().get(0);
+        assertEquals(12, best.getCategoryJobs());
+        assertEquals(5.0, best.getAverageRating());
+        assertTrue(best.getDistanceKm() < 2, () -> "distance " + best.getDistanceKm());
+        assertNull(ranked.getApplicants().get(3).getDistanceKm());
+
+        ApplicantPage second = rankingService.rankApplicants(task, 1, 2);
+        assertEquals(List.of("Lucky", "Newcomer"), names(second));
+        assertEquals(4, second.getTotalApplicants());
+        assertFalse(second.isHasMore());
+
+        // The nightly rebuild reaches the same features from the source tables, and adds response times
+        reputationService.reconcile();
+        ApplicantPage rebuilt = rankingService.rankApplicants(task, 0, 20);
+        assertEquals(names(ranked), names(rebuilt));
+        assertEquals(12, rebuilt.getApplicants().get(0).getCategoryJobs());
+        assertEquals(best.getDistanceKm(), rebuilt.getApplicants().get(0).getDistanceKm(), 1e-9);
+        assertNotNull(rebuilt.getApplicants().get(3).getAverageResponseMinutes());
+    }
+
+    // Timing on in-memory H2 is indicative only, so opt-in: mvn test -Dtest=ApplicantRankingTest -Dbenchmark=true
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void ranksHundredsOfApplicantsInMilliseconds() {
+        Random random = new Random(23);
+        Task task = postTask(poster, TaskCategory.CLEANING, NEAR_LAT, NEAR_LON);
+        for (int i = 0; i < 500; i++) {
+            User applicant = applicant("Applicant" + i);
+            if (i % 2 == 0) {
+                history(applicant, TaskCategory.values()[random.nextInt(TaskCategory.values().length)],
+                        1 + random.nextInt(3), 1 + random.nextInt(5),
+                        NEAR_LAT + random.nextGaussian() * 0.5, NEAR_LON + random.nextGaussian() * 0.5);
+            }
+            applicationRepository.save(ApplicationFactory.createApplication(task, applicant));
+        }
+        reputationService.reconcile();
+
+        LatencyHistogram latency = new LatencyHistogram();
+        for (int run = 0; run < 200; run++) {
+            long start = System.nanoTime();
+            ApplicantPage page = rankingService.rankApplicants(task, 0, 20);
+            latency.record(System.nanoTime() - start);
+            assertEquals(500, page.getTotalApplicants());
+        }
+        System.out.println("Ranking 500 applicants: " + latency.snapshot());
+    }
+
+    private void history(User worker, TaskCategory category, int jobs, int stars, double latitude, double longitude) {
+        for (int i = 0; i < jobs; i++) {
+            Task job = postTask(client, category, latitude, longitude);
+            job.setStatus(TaskStatus.COMPLETED);
+            job.setAssignedTo(worker);
+            taskRepository.save(job);
+            reputationService.recordCompletedJob(job);
+            reviewRepository.save(Review.builder()
+                    .task(job)
+                    .reviewer(client)
+                    .reviewee(worker)
+                    .rating(stars)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            reputationService.recordReview(worker.getId(), stars);
+        }
+    }
+
+    private Task postTask(User by, TaskCategory category, double latitude, double longitude) {
+        Task task = TaskFactory.createTask("Ranked task", "Description", category, new BigDecimal("200.00"),
+                "Sandton, South Africa", null, by);
+        task.setLatitude(latitude);
+        task.setLongitude(longitude);
+        return taskRepository.save(task);
+    }
+
+    private User applicant(String firstName) {
+        User applicant = userRepository.save(user(firstName.toLowerCase() + "@ranking.example.com", firstName));
+        applicants.add(applicant);
+        return applicant;
+    }
+
+    private static List<String> names(ApplicantPage page) {
+        return page.getApplicants().stream().map(RankedApplicant::getFirstName).toList();
+    }
+
+    private static User user(String email, String firstName) {
+        return User.builder()
+                .email(email)
+                .password("secret")
+                .firstName(firstName)
+                .lastName("Test")
+                .role(Role.USER)
+                .build();
+    }
+}
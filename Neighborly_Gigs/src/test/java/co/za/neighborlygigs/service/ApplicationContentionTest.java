@@ -0,0 +1,284 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.Application;
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.ApplicationStatus;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.factory.ApplicationFactory;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.metrics.LatencyHistogram;
+import co.za.neighborlygigs.repository.ApplicationRepository;
+import co.za.neighborlygigs.repository.NotificationRepository;
+import co.za.neighborlygigs.repository.OutboxEmailRepository;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hundreds of applicants hitting one task at once, each submitting twice, then several concurrent
+ * assigns. Every applicant must end up with exactly one application and every duplicate with the
+ * friendly error; exactly one assign may win. With -Dbenchmark=true the latency of the insert-first
+ * path is also printed next to the old SELECT-then-INSERT path run against the same load.
+ */
+@SpringBootTest
+class ApplicationContentionTest {
+    private static final int APPLICANTS = 200;
+    private static final int THREADS = 32;
+    private static final String DUPLICATE = "You have already applied to this task";
+
+    @Autowired
+    private ApplicationService applicationService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DataSource dataSource;
+
+    private User poster;
+    private final List<User> applicants = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        poster = userRepository.save(user("contention-poster@example.com"));
+        for (int i = 0; i < APPLICANTS; i++) {
+            applicants.add(user("contention-applicant" + i + "@example.com"));
+        }
+        userRepository.saveAll(applicants);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        notificationRepository.deleteAll();
+        outboxEmailRepository.deleteAll();
+        taskRepository.deleteAll(taskRepository.findByPoster_Id(poster.getId()));
+        userRepository.deleteAll(applicants);
+        userRepository.delete(poster);
+    }
+
+    @Test
+    void everyApplicantAppliesOnceAndOneAssignWins() throws Exception {
+        Task task = postTask();
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+
+        runTwicePerApplicant(applicant -> {
+            try {
+                applicationService.applyToTask(task.getId(), applicant, null);
+                count(outcomes, "applied");
+            } catch (RuntimeException e) {
+                count(outcomes, e.getMessage());
+            }
+        });
+
+        assertEquals(APPLICANTS, outcomes.get("applied").get(), outcomes.toString());
+        assertEquals(APPLICANTS, outcomes.get(DUPLICATE).get(), outcomes.toString());
+        assertEquals(APPLICANTS, applicationRepository.findByTask_Id(task.getId()).size());
+
+        // Several applicants picked at the same moment: the version check lets exactly one through
+        Map<String, AtomicInteger> assigns = new ConcurrentHashMap<>();
+        runConcurrently(16, i -> {
+            try {
+                taskService.assignTask(task.getId(), applicants.get((int) i).getId(), poster.getId());
+                count(assigns, "assigned");
+            } catch (RuntimeException e) {
+                count(assigns, "refused");
+            }
+        });
+        assertEquals(1, assigns.get("assigned").get(), assigns.toString());
+
+        Task assigned = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(TaskStatus.ASSIGNED, assigned.getStatus());
+        List<Application> accepted = applicationRepository.findByTask_Id(task.getId()).stream()
+                .filter(a -> a.getStatus() == ApplicationStatus.ACCEPTED)
+                .toList();
+        assertEquals(1, accepted.size());
+
+        // Retrying the winning assign is harmless
+        Long winner = transactionTemplate.execute(s -> taskRepository.findById(task.getId())
+                .orElseThrow().getAssignedTo().getId());
+        Task retried = taskService.assignTask(task.getId(), winner, poster.getId());
+        assertEquals(assigned.getVersion(), retried.getVersion());
+    }
+
+    @Test
+    void applyNoLongerSelectsBeforeInserting() {
+        Task task = postTask();
+        Long applicant = applicants.get(0).getId();
+        // Warm the applicant cache so only the apply path itself is counted
+        applicationService.applyToTask(task.getId(), applicant, null);
+        Task second = postTask();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        applicationService.applyToTask(second.getId(), applicant, null);
+        // Only the open-task lookup; the duplicate check rides on the INSERT
+        assertEquals(1, statistics.getQueryExecutionCount());
+
+        statistics.clear();
+        assertThrows(RuntimeException.class, () -> applicationService.applyToTask(second.getId(), applicant, null));
+        assertEquals(1, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    void duplicateIsRecognisedUnderAGeneratedConstraintName() {
+        // As on a database created before the constraint was named: the same unique key, another name
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("ALTER TABLE application DROP CONSTRAINT " + Application.UNIQUE_APPLICANT);
+        jdbc.execute("ALTER TABLE application ADD UNIQUE (task_id, applicant_id)");
+        String generated = jdbc.queryForObject("SELECT constraint_name FROM information_schema.table_constraints " +
+                "WHERE table_name = 'application' AND constraint_type = 'UNIQUE'", String.class);
+        try {
+            Task task = postTask();
+            Long applicant = applicants.get(0).getId();
+            applicationService.applyToTask(task.getId(), applicant, null);
+            RuntimeException duplicate = assertThrows(RuntimeException.class,
+                    () -> applicationService.applyToTask(task.getId(), applicant, null));
+            assertEquals(DUPLICATE, duplicate.getMessage());
+        } finally {
+            // Generated names are upper case, so quoted past DATABASE_TO_LOWER
+            jdbc.execute("ALTER TABLE application DROP CONSTRAINT \"" + generated + "\"");
+            jdbc.execute("ALTER TABLE application ADD CONSTRAINT " + Application.UNIQUE_APPLICANT +
+                    " UNIQUE (task_id, applicant_id)");
+        }
+    }
+
+    // Timing on in-memory H2 is indicative only, so opt-in: mvn test -Dtest=ApplicationContentionTest -Dbenchmark=true
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void latencyAgainstCheckThenAct() throws Exception {
+        Task baselineTask = postTask();
+        LatencyHistogram baseline = new LatencyHistogram();
+        AtomicInteger leaked = new AtomicInteger();
+        runTwicePerApplicant(applicant -> {
+            long start = System.nanoTime();
+            try {
+                checkThenAct(baselineTask.getId(), applicant);
+            } catch (RuntimeException e) {
+                // Both requests passed the SELECT; the constraint rejected one with a raw error
+                if (!DUPLICATE.equals(e.getMessage())) {
+                    leaked.incrementAndGet();
+                }
+            } finally {
+                baseline.record(System.nanoTime() - start);
+            }
+        });
+
+        Task task = postTask();
+        LatencyHistogram insertFirst = new LatencyHistogram();
+        runTwicePerApplicant(applicant -> {
+            long start = System.nanoTime();
+            try {
+                applicationService.applyToTask(task.getId(), applicant, null);
+            } catch (RuntimeException e) {
+                assertEquals(DUPLICATE, e.getMessage());
+            } finally {
+                insertFirst.record(System.nanoTime() - start);
+            }
+        });
+
+        System.out.println("Check-then-act: " + baseline.snapshot() + ", raw constraint errors: " + leaked.get());
+        System.out.println("Insert-first:   " + insertFirst.snapshot());
+        assertEquals(APPLICANTS, applicationRepository.findByTask_Id(task.getId()).size());
+    }
+
+    // The previous applyToTask: look for an existing application, then insert
+    private void checkThenAct(Long taskId, Long applicantId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Task task = taskRepository.findByIdAndStatus(taskId, TaskStatus.OPEN).orElseThrow();
+            if (applicationRepository.findByTask_IdAndApplicant_Id(taskId, applicantId).isPresent()) {
+                throw new RuntimeException(DUPLICATE);
+            }
+            User applicant = userRepository.getReferenceById(applicantId);
+            applicationRepository.saveAndFlush(ApplicationFactory.createApplication(task, applicant));
+        });
+    }
+
+    // Each applicant submits twice back to back (a double click), all released at the same instant
+    private void runTwicePerApplicant(LongConsumer apply) throws Exception {
+        runConcurrently(APPLICANTS * 2, i -> apply.accept(applicants.get((int) (i / 2)).getId()));
+    }
+
+    private void runConcurrently(int calls, LongConsumer call) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < calls; i++) {
+                long index = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    call.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(futures.stream().allMatch(Future::isDone));
+    }
+
+    private Task postTask() {
+        return taskRepository.save(TaskFactory.createTask("Clean a flat", "Two bedrooms", TaskCategory.CLEANING,
+                new BigDecimal("300.00"), "Rosebank, South Africa", null, poster));
+    }
+
+    private static void count(Map<String, AtomicInteger> outcomes, String key) {
+        outcomes.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("secret")
+                .firstName("Con")
+                .lastName("Tention")
+                .role(Role.USER)
+                .build();
+    }
+}
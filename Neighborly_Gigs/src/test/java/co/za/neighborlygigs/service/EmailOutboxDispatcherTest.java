@@ -0,0 +1,197 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.OutboxEmail;
+import co.za.neighborlygigs.domain.enums.EmailStatus;
+import co.za.neighborlygigs.repository.OutboxEmailRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class EmailOutboxDispatcherTest {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_BASE_SECONDS = 30;
+
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    private final RecordingMailSender mailSender = new RecordingMailSender();
+
+    @AfterEach
+    void cleanUp() {
+        outboxEmailRepository.deleteAll();
+    }
+
+    @Test
+    void failedPartOfABatchBacksOffUntilItIsMarkedFailed() {
+        OutboxEmail first = queue("first@outbox.example.com");
+        OutboxEmail bounced = queue("bounce@outbox.example.com");
+        OutboxEmail last = queue("last@outbox.example.com");
+        EmailOutboxDispatcher dispatcher = dispatcher();
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        assertEquals(List.of("first@outbox.example.com", "last@outbox.example.com"), mailSender.delivered);
+        assertEquals(EmailStatus.SENT, reload(first).getStatus());
+        assertEquals(EmailStatus.SENT, reload(last).getStatus());
+        assertRetryScheduled(reload(bounced), 1, before, BACKOFF_BASE_SECONDS);
+
+        // Not due yet: nothing is sent
+        dispatcher.dispatch();
+        assertEquals(1, reload(bounced).getAttempts());
+
+        makeDue(bounced);
+        before = LocalDateTime.now();
+        dispatcher.dispatch();
+        assertRetryScheduled(reload(bounced), 2, before, BACKOFF_BASE_SECONDS * 2);
+
+        makeDue(bounced);
+        dispatcher.dispatch();
+        OutboxEmail failed = reload(bounced);
+        assertEquals(EmailStatus.FAILED, failed.getStatus());
+        assertEquals(MAX_ATTEMPTS, failed.getAttempts());
+
+        // The sent ones went out once, and a FAILED email is not picked up again
+        makeDue(bounced);
+        dispatcher.dispatch();
+        assertEquals(2, mailSender.delivered.size());
+        assertEquals(MAX_ATTEMPTS, reload(bounced).getAttempts());
+    }
+
+    @Test
+    void claimedRowsAreLeftAloneUntilTheClaimTimesOut() {
+        OutboxEmail inFlight = queue("inflight@outbox.example.com");
+        OutboxEmail abandoned = queue("abandoned@outbox.example.com");
+        claimedAt(inFlight, LocalDateTime.now());
+        // Its run died before saving the outcome
+        claimedAt(abandoned, LocalDateTime.now().minusHours(1));
+
+        dispatcher().dispatch();
+
+        assertEquals(List.of("abandoned@outbox.example.com"), mailSender.delivered);
+        assertEquals(EmailStatus.SENDING, reload(inFlight).getStatus());
+        assertEquals(EmailStatus.SENT, reload(abandoned).getStatus());
+    }
+
+    @Test
+    void overlappingRunsSendEachEmailOnce() throws Exception {
+        int emails = 60;
+        for (int i = 0; i < emails; i++) {
+            queue("user" + i + "@outbox.example.com");
+        }
+        int runs = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(runs);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                EmailOutboxDispatcher dispatcher = dispatcher();
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    dispatcher.dispatch();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(emails, mailSender.delivered.size());
+        assertEquals(emails, mailSender.delivered.stream().distinct().count());
+        assertEquals(emails, outboxEmailRepository.countByStatus(EmailStatus.SENT));
+    }
+
+    private EmailOutboxDispatcher dispatcher() {
+        return new EmailOutboxDispatcher(outboxEmailRepository, mailSender, 10, MAX_ATTEMPTS,
+                BACKOFF_BASE_SECONDS, 3600, 600);
+    }
+
+    private OutboxEmail queue(String recipient) {
+        return outboxEmailRepository.save(OutboxEmail.builder()
+                .recipient(recipient)
+                .subject("Subject")
+                .body("Body")
+                .html(false)
+                .build());
+    }
+
+    private OutboxEmail reload(OutboxEmail email) {
+        return outboxEmailRepository.findById(email.getId()).orElseThrow();
+    }
+
+    private void makeDue(OutboxEmail email) {
+        OutboxEmail current = reload(email);
+        current.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxEmailRepository.save(current);
+    }
+
+    private void claimedAt(OutboxEmail email, LocalDateTime at) {
+        OutboxEmail current = reload(email);
+        current.setStatus(EmailStatus.SENDING);
+        current.setClaimedBy("another-run");
+        current.setClaimedAt(at);
+        outboxEmailRepository.save(current);
+    }
+
+    private static void assertRetryScheduled(OutboxEmail email, int attempts, LocalDateTime before, long delaySeconds) {
+        assertEquals(EmailStatus.PENDING, email.getStatus());
+        assertEquals(attempts, email.getAttempts());
+        assertNotNull(email.getLastError());
+        LocalDateTime next = email.getNextAttemptAt();
+        assertTrue(!next.isBefore(before.plusSeconds(delaySeconds))
+                && next.isBefore(LocalDateTime.now().plusSeconds(delaySeconds + 1)), () -> "next attempt " + next);
+    }
+
+    // Accepts every message except those to bounce@..., which it reports the way JavaMailSenderImpl does
+    private static class RecordingMailSender extends JavaMailSenderImpl {
+        final List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            for (MimeMessage message : mimeMessages) {
+                String recipient = recipient(message);
+                if (recipient.startsWith("bounce@")) {
+                    failed.put(message, new MessagingException("550 mailbox unavailable"));
+                } else {
+                    delivered.add(recipient);
+                }
+            }
+            if (!failed.isEmpty()) {
+                throw new MailSendException(failed);
+            }
+        }
+
+        private static String recipient(MimeMessage message) {
+            try {
+                return message.getAllRecipients()[0].toString();
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.Notification;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.factory.NotificationFactory;
+import co.za.neighborlygigs.repository.NotificationRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notification inserts per second: one save + flush per row (the one-INSERT-per-save pattern IDENTITY forced)
+ * versus NotificationService.sendAll on pooled sequence ids with JDBC batching.
+ *
+ * Run with: mvn test -Dtest=NotificationInsertBenchmark -Dbenchmark=true
+ * H2 in memory has near-zero round-trip cost, so the gap on a networked MySQL is larger.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NotificationInsertBenchmark {
+    private static final int ROWS = 20_000;
+    private static final int FAN_OUT = 4;
+
+    @Autowired
+    private NotificationService notificationService;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareRowByRowWithBatchedFanOut() {
+        User recipient = userRepository.save(User.builder()
+                .email("bench@example.com").password("secret")
+                .firstName("Bench").lastName("Mark").role(Role.USER).build());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Warm up both paths
+        rowByRow(recipient, 2_000);
+        batched(recipient, 2_000);
+
+        statistics.clear();
+        long start = System.nanoTime();
+        rowByRow(recipient, ROWS);
+        double rowByRowRate = ROWS / ((System.nanoTime() - start) / 1e9);
+        long rowByRowStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        start = System.nanoTime();
+        batched(recipient, ROWS);
+        double batchedRate = ROWS / ((System.nanoTime() - start) / 1e9);
+        long batchedStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("Row-by-row: %,.0f inserts/s (%d statements)%n", rowByRowRate, rowByRowStatements);
+        System.out.printf("Batched:    %,.0f inserts/s (%d statements)%n", batchedRate, batchedStatements);
+        notificationRepository.deleteAll();
+    }
+
+    // Before: every notification is its own INSERT round trip, in groups of four per "task completion"
+    private void rowByRow(User recipient, int rows) {
+        for (int i = 0; i < rows; i += FAN_OUT) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int j = 0; j < FAN_OUT; j++) {
+                    notificationRepository.save(NotificationFactory.createTaskCompletedNotification(recipient, "Bench"));
+                    entityManager.flush();
+                }
+            });
+        }
+    }
+
+    // After: the four notifications of a completion go out through the fan-out API in one batch
+    private void batched(User recipient, int rows) {
+        for (int i = 0; i < rows; i += FAN_OUT) {
+            List<Notification> fanOut = new ArrayList<>(FAN_OUT);
+            for (int j = 0; j < FAN_OUT; j++) {
+                fanOut.add(NotificationFactory.createTaskCompletedNotification(recipient, "Bench"));
+            }
+            notificationService.sendAll(fanOut);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.Transaction;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.domain.enums.TaskStatus;
+import co.za.neighborlygigs.domain.enums.TransactionStatus;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.factory.TransactionFactory;
+import co.za.neighborlygigs.payment.PaymentGateway;
+import co.za.neighborlygigs.payment.PaymentGatewayException;
+import co.za.neighborlygigs.payment.PayoutRequest;
+import co.za.neighborlygigs.payment.PayoutResult;
+import co.za.neighborlygigs.payment.StubPaymentGateway;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.TransactionRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class PayoutSettlementJobTest {
+    private static final int ROWS = 525;
+    private static final int CHUNK = 50;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User poster;
+    private User worker;
+
+    @BeforeEach
+    void seed() {
+        poster = userRepository.save(user("settle-poster@example.com"));
+        worker = userRepository.save(user("settle-worker@example.com"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM task WHERE poster_id = ?", poster.getId());
+        userRepository.deleteAll(List.of(poster, worker));
+    }
+
+    @Test
+    void settlesEveryPendingTransactionInChunks() {
+        seedCompletedTasks(ROWS, worker);
+        // Completed without anyone assigned: refused, not retried forever
+        seedCompletedTasks(1, null);
+        CountingGateway gateway = new CountingGateway(new StubPaymentGateway());
+
+        job(gateway).settlePending();
+
+        assertEquals(0, transactionRepository.countByStatus(TransactionStatus.PENDING));
+        assertEquals(ROWS, transactionRepository.countByStatus(TransactionStatus.SUCCESS));
+        assertEquals(1, transactionRepository.countByStatus(TransactionStatus.REJECTED));
+        // 526 rows in chunks of 50
+        assertEquals(11, gateway.calls.get());
+        Transaction sample = transactionRepository.findAll().get(0);
+        assertNotNull(sample.getSettledAt());
+
+        // Nothing left to do: a second run does not call the gateway
+        job(gateway).settlePending();
+        assertEquals(11, gateway.calls.get());
+    }
+
+    @Test
+    void restartAfterCrashPaysEachTransactionOnce() {
+        seedCompletedTasks(ROWS, worker);
+        StubPaymentGateway stub = new StubPaymentGateway();
+        CountingGateway counting = new CountingGateway(stub);
+        // The fourth chunk is paid at the gateway, then the process "dies" before the commit
+        AtomicInteger chunks = new AtomicInteger();
+        PaymentGateway crashing = requests -> {
+            Map<Long, PayoutResult> results = counting.payout(requests);
+            if (chunks.incrementAndGet() == 4) {
+                throw new IllegalStateException("killed mid-run");
+            }
+            return results;
+        };
+
+        assertThrows(IllegalStateException.class, () -> job(crashing).settlePending());
+        assertEquals(3 * CHUNK, transactionRepository.countByStatus(TransactionStatus.SUCCESS));
+
+        job(counting).settlePending();
+
+        assertEquals(ROWS, transactionRepository.countByStatus(TransactionStatus.SUCCESS));
+        // Only the chunk lost in the crash was asked twice, and it got the same references back
+        assertEquals(ROWS + CHUNK, counting.payouts.values().stream().mapToInt(AtomicInteger::get).sum());
+        for (Transaction transaction : transactionRepository.findAll()) {
+            assertEquals("stub-" + transaction.getId(), transaction.getPayfastPaymentId());
+        }
+    }
+
+    @Test
+    void gatewayOutageLeavesRowsPendingForTheNextRun() {
+        seedCompletedTasks(ROWS, worker);
+        AtomicInteger chunks = new AtomicInteger();
+        StubPaymentGateway stub = new StubPaymentGateway();
+        PaymentGateway flaky = requests -> {
+            if (chunks.incrementAndGet() == 2) {
+                throw new PaymentGatewayException("timed out");
+            }
+            return stub.payout(requests);
+        };
+
+        PayoutSettlementJob job = job(flaky);
+        job.settlePending();
+        // The run carried on past the failed chunk
+        assertEquals(CHUNK, transactionRepository.countByStatus(TransactionStatus.PENDING));
+        assertEquals((long) CHUNK, job.snapshotStats().get("deferred"));
+
+        job.settlePending();
+        assertEquals(0, transactionRepository.countByStatus(TransactionStatus.PENDING));
+    }
+
+    // Seeds with set-based inserts, so: mvn test -Dtest=PayoutSettlementJobTest -Dbenchmark=true [-Dsettlement.rows=1000000]
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void settlesALargeBacklogInBoundedMemory() throws Exception {
+        int rows = Integer.getInteger("settlement.rows", 200_000);
+        jdbcTemplate.update("INSERT INTO task (title, description, category, budget, address, status, poster_id, " +
+                "assigned_to_id, created_at, version) SELECT 'Bench', 'Bench', 'CLEANING', 100.00, 'Sandton', " +
+                "'COMPLETED', ?, ?, CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(1, ?)", poster.getId(), worker.getId(), rows);
+        jdbcTemplate.update("INSERT INTO transaction (task_id, total_amount, platform_fee, payout_to_completer, " +
+                "status, created_at) SELECT id, 100.00, 20.00, 80.00, 'PENDING', CURRENT_TIMESTAMP FROM task " +
+                "WHERE poster_id = ?", poster.getId());
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong peak = new AtomicLong(baseline);
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+
+        PayoutSettlementJob job = new PayoutSettlementJob(transactionRepository, transactionService,
+                new StubPaymentGateway(), 500);
+        long start = System.nanoTime();
+        job.settlePending();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        sampler.interrupt();
+        sampler.join();
+
+        System.gc();
+        long retained = memory.getHeapMemoryUsage().getUsed() - baseline;
+
+        assertEquals(0, transactionRepository.countByStatus(TransactionStatus.PENDING));
+        // Peak includes uncollected garbage from finished chunks; retained is what the run kept
+        System.out.printf("Settled %,d transactions in %,d ms (%,.0f/s), peak heap +%,d MB, retained +%,d MB%n",
+                rows, millis, rows * 1000.0 / Math.max(1, millis),
+                (peak.get() - baseline) / (1024 * 1024), retained / (1024 * 1024));
+        assertTrue(retained < 64L * 1024 * 1024, "Retained " + retained + " bytes");
+    }
+
+    private PayoutSettlementJob job(PaymentGateway gateway) {
+        return new PayoutSettlementJob(transactionRepository, transactionService, gateway, CHUNK);
+    }
+
+    private void seedCompletedTasks(int count, User assignee) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = TaskFactory.createTask("Paint a fence " + i, "One coat", TaskCategory.CLEANING,
+                    new BigDecimal("250.00"), "Sandton, South Africa", null, poster);
+            task.setStatus(TaskStatus.COMPLETED);
+            task.setAssignedTo(assignee);
+            tasks.add(task);
+        }
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (Task task : taskRepository.saveAll(tasks)) {
+            transactions.add(TransactionFactory.createTransaction(task));
+        }
+        transactionRepository.saveAll(transactions);
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("secret")
+                .firstName("Settle")
+                .lastName("Test")
+                .role(Role.USER)
+                .build();
+    }
+
+    // Counts gateway calls and how often each transaction was sent
+    private static class CountingGateway implements PaymentGateway {
+        private final PaymentGateway delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Map<Long, AtomicInteger> payouts = new ConcurrentHashMap<>();
+
+        CountingGateway(PaymentGateway delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Map<Long, PayoutResult> payout(List<PayoutRequest> requests) {
+            calls.incrementAndGet();
+            requests.forEach(r -> payouts.computeIfAbsent(r.getTransactionId(), id -> new AtomicInteger()).incrementAndGet());
+            return delegate.payout(requests);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package co.za.neighborlygigs.service;
+
+import co.za.neighborlygigs.domain.Task;
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.UserCategoryJobs;
+import co.za.neighborlygigs.domain.UserReputation;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.repository.UserCategoryJobsRepository;
+import co.za.neighborlygigs.repository.UserReputationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Many first activities for a user with no aggregate row yet, all released at once: every one must
+ * commit and be counted, none may fail on the row another one created.
+ */
+@SpringBootTest
+class ReputationConcurrencyTest {
+    private static final int CALLS = 64;
+    private static final int THREADS = 16;
+    // No foreign key on the aggregates, so an id no user has keeps the test clear of real rows
+    private static final Long USER_ID = 9_000_001L;
+
+    @Autowired
+    private ReputationService reputationService;
+    @Autowired
+    private UserReputationRepository reputationRepository;
+    @Autowired
+    private UserCategoryJobsRepository categoryJobsRepository;
+
+    @AfterEach
+    void cleanUp() {
+        reputationRepository.deleteById(USER_ID);
+        categoryJobsRepository.deleteAll(categoryJobsRepository.findByUserId(USER_ID));
+    }
+
+    @Test
+    void concurrentFirstReviewsAreAllCounted() throws Exception {
+        runConcurrently(i -> reputationService.recordReview(USER_ID, i % 5 + 1));
+
+        UserReputation reputation = reputationRepository.findById(USER_ID).orElseThrow();
+        assertEquals(CALLS, reputation.getRatingCount());
+        assertEquals(CALLS / 5 * 15 + 1 + 2 + 3 + 4, reputation.getRatingSum());
+        assertEquals(CALLS / 5 + 1, reputation.getOneStar());
+        assertEquals(CALLS / 5, reputation.getFiveStar());
+    }
+
+    @Test
+    void concurrentFirstCompletedJobsAreAllCounted() throws Exception {
+        // Half the jobs in each of two categories, so both category rows are created under contention
+        runConcurrently(i -> reputationService.recordCompletedJob(
+                completedTask(i % 2 == 0 ? TaskCategory.CLEANING : TaskCategory.YARD_WORK)));
+
+        assertEquals(CALLS, reputationRepository.findById(USER_ID).orElseThrow().getCompletedJobs());
+        List<UserCategoryJobs> categories = categoryJobsRepository.findByUserId(USER_ID);
+        assertEquals(2, categories.size());
+        assertEquals(List.of(CALLS / 2L, CALLS / 2L), categories.stream().map(UserCategoryJobs::getCompletedJobs).toList());
+    }
+
+    // Only what recordCompletedJob reads; never persisted
+    private static Task completedTask(TaskCategory category) {
+        return Task.builder()
+                .category(category)
+                .latitude(-26.2041)
+                .longitude(28.0473)
+                .assignedTo(User.builder().id(USER_ID).build())
+                .build();
+    }
+
+    // Rethrows the first failure of any call
+    private void runConcurrently(IntConsumer call) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLS; i++) {
+                int index = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    call.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package co.za.neighborlygigs.stats;
+
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.domain.enums.Role;
+import co.za.neighborlygigs.domain.enums.TaskCategory;
+import co.za.neighborlygigs.event.TaskOpenedEvent;
+import co.za.neighborlygigs.factory.TaskFactory;
+import co.za.neighborlygigs.repository.ReviewRepository;
+import co.za.neighborlygigs.repository.TaskRepository;
+import co.za.neighborlygigs.repository.TransactionRepository;
+import co.za.neighborlygigs.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class PlatformStatsTest {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User poster;
+    // Run around the rebuild's task count, as a post committing alongside it would
+    private Runnable beforeCount;
+    private Runnable afterCount;
+    private PlatformStats stats;
+
+    @BeforeEach
+    void seed() {
+        poster = userRepository.save(User.builder()
+                .email("stats-poster@example.com")
+                .password("secret")
+                .firstName("Poster")
+                .lastName("Test")
+                .role(Role.USER)
+                .build());
+        stats = new PlatformStats(racing(), reviewRepository, transactionRepository);
+        stats.rebuild();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAll(taskRepository.findByPoster_Id(poster.getId()));
+        userRepository.delete(poster);
+    }
+
+    @Test
+    void eventDeliveredAfterTheCountIsNotOverwritten() {
+        afterCount = () -> {
+            postTask();
+            stats.onTaskOpened(new TaskOpenedEvent(null));
+        };
+        stats.rebuild();
+
+        assertEquals(taskRepository.count(), stats.getJobsPosted());
+    }
+
+    @Test
+    void eventForARowTheCountAlreadySawIsNotCountedTwice() {
+        beforeCount = this::postTask;
+        afterCount = () -> stats.onTaskOpened(new TaskOpenedEvent(null));
+        stats.rebuild();
+
+        assertEquals(taskRepository.count(), stats.getJobsPosted());
+    }
+
+    @Test
+    void quietRebuildCorrectsDrift() {
+        // Posted without an event, as if the listener had been missed
+        postTask();
+        stats.rebuild();
+
+        assertEquals(taskRepository.count(), stats.getJobsPosted());
+    }
+
+    private void postTask() {
+        taskRepository.save(TaskFactory.createTask("Counted task", "Description", TaskCategory.CLEANING,
+                new BigDecimal("150.00"), "Sandton, South Africa", null, poster));
+    }
+
+    // The real repository, with a commit and its event slipped in around count()
+    private TaskRepository racing() {
+        return (TaskRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{TaskRepository.class}, (proxy, method, args) -> {
+                    boolean count = method.getName().equals("count") && method.getParameterCount() == 0;
+                    if (count && beforeCount != null) {
+                        beforeCount.run();
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(taskRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (count && afterCount != null) {
+                        afterCount.run();
+                    }
+                    return result;
+                });
+    }
+}
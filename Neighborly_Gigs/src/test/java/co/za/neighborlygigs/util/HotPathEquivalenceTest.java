@@ -0,0 +1,142 @@
+package co.za.neighborlygigs.util;
+
+import co.za.neighborlygigs.domain.User;
+import co.za.neighborlygigs.factory.NotificationFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The rewritten validation, address and notification code against the versions it replaced (the
+ * same ones BaselineImplementations benchmarks against), on hand-picked edge cases and on random
+ * strings built from the characters most likely to trip them up. The seed is fixed so a failure
+ * names a reproducible input.
+ */
+class HotPathEquivalenceTest {
+    private static final int SAMPLES = 100_000;
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+    private static final String PHONE_REGEX = "^(\\+?[0-9]{1,3})?([0-9]{10})$";
+
+    // Fragments of the needles in both cases, plus letters that case-fold oddly: dotless and dotted I,
+    // long s, Kelvin sign, sharp s, and characters trim() and isBlank() disagree on
+    private static final String[] ADDRESS_PIECES = {
+            "south", "SOUTH", "South", " ", "africa", "AFRICA", "Afr", "ica", "z", "Z", "a", "A", "za", "ZA",
+            "ı", "İ", "ſ", "K", "ß", "ẞ", "é", " ", " ", "\u0000", "\t", "\n", ",", "Sandton", "1"
+    };
+    private static final String[] EMAIL_PIECES = {
+            "a", "Z", "0", "9", "@", ".", "+", "_", "-", " ", "\t", "\n", "é", "ı", "com", "co.za", "%", "@@"
+    };
+    private static final String[] PHONE_PIECES = {
+            "0", "1", "27", "+", "082", "1234567", " ", "\t", "-", "(", ")", "٣", "\n", "a"
+    };
+
+    private final Random random = new Random(20_251_018L);
+
+    @Test
+    void addressFormattingMatchesTheLowerCasingVersion() {
+        List<String> cases = List.of("", " ", "\t\n", "\u0000", " ", "\u0000  ",
+                "Sandton", "  Sandton  ", "Rosebank, South Africa", "ROSEBANK, SOUTH AFRICA", "Durban, ZA",
+                "Bazaar Street", "Soweto", "Cape Town, South Afrıca", "Cape Town, ſouth Africa", "Pretoria, İZA",
+                "Zoo Lake", "z", "Z", "s", "South Afric", "outh africa", "Kelvin K", "Straße");
+        for (String address : cases) {
+            assertSameAddress(address);
+        }
+        assertSameAddress(null);
+        for (int i = 0; i < SAMPLES; i++) {
+            assertSameAddress(randomString(ADDRESS_PIECES, 8));
+        }
+    }
+
+    @Test
+    void emailAndPhoneValidationMatchTheRecompilingVersion() {
+        List<String> emails = List.of("", " ", "user@example.com", " user@example.com ", "user@example",
+                "user@example.c", "first.last+tag@sub.example.co.za", "user@@example.com", "usér@example.com",
+                "user@example.com\n", "@example.com", "user@.com");
+        for (String email : emails) {
+            assertEquals(baselineIsValidEmail(email), ValidationUtil.isValidEmail(email), email);
+        }
+        List<String> phones = List.of("", "0821234567", "+27821234567", "27821234567", " 0821234567 ", "082 123 4567",
+                "+2782123456", "٠٨٢١٢٣٤٥٦٧", "0821234567\n", "+1234 0821234567");
+        for (String phone : phones) {
+            assertEquals(baselineIsValidPhone(phone), ValidationUtil.isValidPhone(phone), phone);
+        }
+        for (int i = 0; i < SAMPLES; i++) {
+            String email = randomString(EMAIL_PIECES, 10);
+            assertEquals(baselineIsValidEmail(email), ValidationUtil.isValidEmail(email), email);
+            String phone = randomString(PHONE_PIECES, 8);
+            assertEquals(baselineIsValidPhone(phone), ValidationUtil.isValidPhone(phone), phone);
+        }
+        assertFalse(ValidationUtil.isValidEmail(null));
+        assertFalse(ValidationUtil.isValidPhone(null));
+    }
+
+    @Test
+    void reviewReminderMatchesTheFormattedMessage() {
+        List<String> values = Arrays.asList("Thandi", "", "100% done", "%s %n %d", "Zoë “quoted”", "🌟", null);
+        User recipient = User.builder().firstName("Recipient").build();
+        for (String name : values) {
+            for (String title : values) {
+                User otherParty = User.builder().firstName(name).build();
+                String expected = String.format(
+                        "%s helped you with “%s” — please take a moment to leave a review. " +
+                                "Your feedback helps build trust in our community! 🌟",
+                        name, title);
+                assertEquals(expected, NotificationFactory.createReviewReminderNotification(recipient, otherParty, title)
+                        .getMessage());
+            }
+        }
+    }
+
+    private void assertSameAddress(String address) {
+        assertEquals(outcome(() -> baselineFormatAddress(address)),
+                outcome(() -> GeoCodingUtil.formatAddressForGeocoding(address)),
+                () -> address == null ? "null" : address.codePoints().mapToObj(Integer::toHexString).toList().toString());
+    }
+
+    // The result, or the exception type when it throws
+    private static String outcome(Supplier<String> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private String randomString(String[] pieces, int maxPieces) {
+        StringBuilder text = new StringBuilder();
+        for (int i = random.nextInt(maxPieces + 1); i > 0; i--) {
+            text.append(pieces[random.nextInt(pieces.length)]);
+        }
+        return text.toString();
+    }
+
+    // GeoCodingUtil.formatAddressForGeocoding before, on a non-Turkish default locale as the servers run
+    private static String baselineFormatAddress(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            throw new IllegalArgumentException("Address cannot be null or empty");
+        }
+        String cleaned = address.trim();
+        if (!cleaned.toLowerCase(Locale.ROOT).contains("south africa") && !cleaned.toLowerCase(Locale.ROOT).contains("za")) {
+            cleaned += ", South Africa";
+        }
+        return cleaned;
+    }
+
+    // ValidationUtil before: String.matches on the trimmed input
+    private static boolean baselineIsValidEmail(String email) {
+        email = email.trim();
+        return !email.isEmpty() && email.matches(EMAIL_REGEX);
+    }
+
+    private static boolean baselineIsValidPhone(String phone) {
+        phone = phone.trim();
+        return !phone.isEmpty() && phone.matches(PHONE_REGEX);
+    }
+}